@@ -148,7 +148,7 @@ public class AnalisadorResultados {
         
         List<String[]> encadeamentos = new ArrayList<>();
         for (String[] r : resultados) {
-            if (r[0].equals("Encadeamento")) {
+            if (r[0].startsWith("Encadeamento")) {
                 encadeamentos.add(r);
             }
         }
@@ -192,7 +192,7 @@ public class AnalisadorResultados {
         
         List<String[]> encadeamentos = new ArrayList<>();
         for (String[] r : resultados) {
-            if (r[0].equals("Encadeamento")) {
+            if (r[0].startsWith("Encadeamento")) {
                 encadeamentos.add(r);
             }
         }
@@ -234,7 +234,7 @@ public class AnalisadorResultados {
             int encadeamentos = 0;
             int rehashings = 0;
             for (String[] r : resultados) {
-                if (r[0].equals("Encadeamento")) {
+                if (r[0].startsWith("Encadeamento")) {
                     encadeamentos++;
                 } else {
                     rehashings++;
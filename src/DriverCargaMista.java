@@ -0,0 +1,313 @@
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Carga mista no estilo do YCSB: muitos clientes simultâneos fazendo buscas de códigos
+// presentes, inserções de códigos novos e buscas de códigos ausentes, nas proporções pedidas.
+// A chegada é em laço aberto: cada cliente tem horários marcados, a taxa total dividida entre
+// eles, e a latência de resposta conta a partir do horário marcado. Assim um atraso do
+// sistema entra na medida em vez de só adiar as operações seguintes (omissão coordenada)
+public class DriverCargaMista {
+    // Códigos válidos têm 9 dígitos; daqui para cima nenhum está na tabela
+    private static final int CODIGO_AUSENTE_MINIMO = 1000000000;
+    // Folga para todos os clientes estarem no ar antes do primeiro horário marcado
+    private static final long ATRASO_INICIAL_NS = 200_000_000L;
+    // Acima desta fração de operações atrasadas, a latência de serviço esconde a fila
+    private static final double LIMITE_ATRASADAS = 0.01;
+    
+    // Parâmetros da carga; cada um pode vir como nome=valor na linha de comando
+    public static final class Configuracao {
+        public String tabela = "redimensionavel";
+        public int dados = 1000000;
+        public double leitura = 0.8;
+        public double insercao = 0.1;
+        public double falha = 0.1;
+        public String distribuicao = "zipf";
+        public double expoenteZipf = 0.99;
+        public int taxa = 100000;
+        public int duracao = 10;
+        public int clientes = 1000;
+        
+        static Configuracao ler(String[] args) {
+            Configuracao configuracao = new Configuracao();
+            for (String arg : args) {
+                String[] partes = arg.split("=", 2);
+                if (partes.length != 2) {
+                    throw new IllegalArgumentException("Argumento deve ser nome=valor: " + arg);
+                }
+                switch (partes[0]) {
+                    case "tabela": configuracao.tabela = partes[1]; break;
+                    case "dados": configuracao.dados = Integer.parseInt(partes[1]); break;
+                    case "leitura": configuracao.leitura = Double.parseDouble(partes[1]); break;
+                    case "insercao": configuracao.insercao = Double.parseDouble(partes[1]); break;
+                    case "falha": configuracao.falha = Double.parseDouble(partes[1]); break;
+                    case "distribuicao": configuracao.distribuicao = partes[1]; break;
+                    case "expoente": configuracao.expoenteZipf = Double.parseDouble(partes[1]); break;
+                    case "taxa": configuracao.taxa = Integer.parseInt(partes[1]); break;
+                    case "duracao": configuracao.duracao = Integer.parseInt(partes[1]); break;
+                    case "clientes": configuracao.clientes = Integer.parseInt(partes[1]); break;
+                    default: throw new IllegalArgumentException("Parâmetro desconhecido: " + partes[0]);
+                }
+            }
+            return configuracao;
+        }
+    }
+    
+    private final Configuracao configuracao;
+    private final TabelaHashConcorrente tabela;
+    private final Registro[] presentes;
+    private final Registro[] novos;
+    // Sequência de buscas já sorteada na distribuição de popularidade pedida
+    private final int[] buscas;
+    private final AtomicInteger proximoNovo;
+    
+    public DriverCargaMista(Configuracao configuracao, Registro[] dados) {
+        double soma = configuracao.leitura + configuracao.insercao + configuracao.falha;
+        if (Math.abs(soma - 1.0) > 1e-9 || configuracao.leitura < 0 || configuracao.insercao < 0 || configuracao.falha < 0) {
+            throw new IllegalArgumentException("Proporções de leitura, inserção e falha devem somar 1");
+        }
+        if (configuracao.taxa < 1 || configuracao.duracao < 1 || configuracao.clientes < 1) {
+            throw new IllegalArgumentException("Taxa, duração e clientes devem ser positivos");
+        }
+        
+        Registro[] registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+        int metade = registros.length / 2;
+        if (metade == 0) {
+            throw new IllegalArgumentException("Dados insuficientes");
+        }
+        this.configuracao = configuracao;
+        this.presentes = java.util.Arrays.copyOfRange(registros, 0, metade);
+        this.novos = java.util.Arrays.copyOfRange(registros, metade, registros.length);
+        this.tabela = criarTabela(configuracao.tabela, registros.length);
+        this.proximoNovo = new AtomicInteger();
+        
+        long totalOperacoes = (long) configuracao.taxa * configuracao.duracao;
+        int quantidadeBuscas = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, totalOperacoes));
+        switch (configuracao.distribuicao) {
+            case "zipf":
+                this.buscas = GeradorDados.gerarBuscasZipf(presentes, quantidadeBuscas, configuracao.expoenteZipf, 54321L);
+                break;
+            case "uniforme":
+                java.util.Random aleatorio = new java.util.Random(54321L);
+                this.buscas = new int[quantidadeBuscas];
+                for (int i = 0; i < quantidadeBuscas; i++) {
+                    buscas[i] = presentes[aleatorio.nextInt(presentes.length)].getCodigoInt();
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Distribuição desconhecida: " + configuracao.distribuicao);
+        }
+    }
+    
+    private static TabelaHashConcorrente criarTabela(String nome, int elementos) {
+        switch (nome) {
+            case "encadeamento":
+                return new TabelaHashEncadeamentoConcorrente(Math.max(1, elementos / 2), "multiplicacao");
+            case "primitiva":
+                return new TabelaHashPrimitivaConcorrente((int) (elementos / 0.7) + 1, "multiplicacao", "linear");
+            case "redimensionavel":
+                return new TabelaHashConcorrenteRedimensionavel(1024, "multiplicacao");
+            case "sincronizada":
+                return new TabelaHashSincronizada(new TabelaHashPrimitiva((int) (elementos / 0.7) + 1, "multiplicacao", "linear"));
+            default:
+                throw new IllegalArgumentException("Tabela desconhecida: " + nome);
+        }
+    }
+    
+    // Um executor com uma thread virtual por tarefa quando a JVM tem (Java 21 ou mais);
+    // neste projeto, compilado para Java 17, ele é procurado por reflexão. Sem threads
+    // virtuais cada cliente ocupa uma thread de plataforma, o que limita os milhares de clientes
+    private static ExecutorService criarExecutor(int clientes) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(clientes);
+        }
+    }
+    
+    // Nas versões em que eram prévia, a chamada falha sem --enable-preview e cai no catch
+    private static boolean temThreadsVirtuais() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+    
+    public static void main(String[] args) {
+        System.out.println(" CARGA MISTA (ESTILO YCSB)");
+        System.out.println("===========================");
+        
+        Configuracao configuracao = Configuracao.ler(args);
+        Registro[] dados;
+        try {
+            dados = GeradorDados.carregarDados("dados/conjunto_" + configuracao.dados + ".txt");
+        } catch (java.io.IOException e) {
+            System.out.println("    Erro ao carregar dados: " + e.getMessage());
+            return;
+        }
+        
+        try {
+            new DriverCargaMista(configuracao, dados).executar();
+        } catch (Exception e) {
+            System.err.println(" Erro: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+    
+    public void executar() throws InterruptedException {
+        // Um false de quem não tem o código é falta de espaço, não duplicata
+        int rejeitadasNaCarga = 0;
+        for (Registro registro : presentes) {
+            if (!tabela.inserir(registro) && !tabela.contem(registro.getCodigoInt())) {
+                rejeitadasNaCarga++;
+            }
+        }
+        
+        int clientes = configuracao.clientes;
+        long totalOperacoes = (long) configuracao.taxa * configuracao.duracao;
+        int operacoesPorCliente = (int) Math.max(1, totalOperacoes / clientes);
+        // Intervalo entre horários de um mesmo cliente; os clientes ficam defasados entre si
+        double intervalo = clientes * 1e9 / configuracao.taxa;
+        
+        System.out.printf(" Tabela=%s | Presentes=%,d | Leitura/Inserção/Falha=%.2f/%.2f/%.2f | %s\n",
+                        configuracao.tabela, presentes.length, configuracao.leitura, configuracao.insercao,
+                        configuracao.falha, configuracao.distribuicao);
+        System.out.printf(" Taxa=%,d ops/s | Duração=%d s | Clientes=%,d em threads %s\n",
+                        configuracao.taxa, configuracao.duracao, clientes,
+                        temThreadsVirtuais() ? "virtuais" : "de plataforma (JVM sem threads virtuais)");
+        if (rejeitadasNaCarga > 0) {
+            System.out.printf("     ⚠ %,d inserções rejeitadas por falta de espaço na carga inicial\n", rejeitadasNaCarga);
+        }
+        
+        long[][] respostas = new long[clientes][operacoesPorCliente];
+        long[][] servicos = new long[clientes][operacoesPorCliente];
+        int[] atrasadas = new int[clientes];
+        int[] erros = new int[clientes];
+        int[] rejeitadas = new int[clientes];
+        int[][] porTipo = new int[clientes][3];
+        
+        long inicio = System.nanoTime() + ATRASO_INICIAL_NS;
+        ExecutorService executor = criarExecutor(clientes);
+        for (int c = 0; c < clientes; c++) {
+            int cliente = c;
+            executor.execute(() -> executarCliente(cliente, inicio, intervalo, operacoesPorCliente,
+                                                   respostas[cliente], servicos[cliente], atrasadas, erros, rejeitadas, porTipo[cliente]));
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        long tempo = System.nanoTime() - inicio;
+        
+        relatar(respostas, servicos, atrasadas, erros, rejeitadas, porTipo, tempo);
+    }
+    
+    private void executarCliente(int cliente, long inicio, double intervalo, int operacoes, long[] respostas,
+                                 long[] servicos, int[] atrasadas, int[] erros, int[] rejeitadas, int[] porTipo) {
+        java.util.Random aleatorio = new java.util.Random(cliente);
+        long defasagem = (long) (cliente * intervalo / configuracao.clientes);
+        
+        for (int k = 0; k < operacoes; k++) {
+            long marcado = inicio + defasagem + (long) (k * intervalo);
+            long agora;
+            while ((agora = System.nanoTime()) < marcado) {
+                LockSupport.parkNanos(marcado - agora);
+            }
+            if (agora - marcado > intervalo) {
+                atrasadas[cliente]++;
+            }
+            
+            double sorteio = aleatorio.nextDouble();
+            boolean correta;
+            if (sorteio < configuracao.leitura) {
+                porTipo[0]++;
+                correta = tabela.contem(buscas[(int) (((long) k * configuracao.clientes + cliente) % buscas.length)]);
+            } else if (sorteio < configuracao.leitura + configuracao.insercao) {
+                // Esgotados os novos, recomeça por eles: as tabelas com duplicatas crescem
+                // e as demais respondem que o código já existe. Sem o código, o false é
+                // uma inserção rejeitada por falta de espaço e conta como resposta errada
+                porTipo[1]++;
+                Registro novo = novos[Math.floorMod(proximoNovo.getAndIncrement(), novos.length)];
+                correta = tabela.inserir(novo) || tabela.contem(novo.getCodigoInt());
+                if (!correta) {
+                    rejeitadas[cliente]++;
+                }
+            } else {
+                porTipo[2]++;
+                correta = !tabela.contem(CODIGO_AUSENTE_MINIMO + aleatorio.nextInt(Integer.MAX_VALUE - CODIGO_AUSENTE_MINIMO));
+            }
+            long fim = System.nanoTime();
+            
+            respostas[k] = fim - marcado;
+            servicos[k] = fim - agora;
+            if (!correta) {
+                erros[cliente]++;
+            }
+        }
+    }
+    
+    private void relatar(long[][] respostas, long[][] servicos, int[] atrasadas, int[] erros, int[] rejeitadas,
+                         int[][] porTipo, long tempo) {
+        long[] resposta = juntar(respostas);
+        long[] servico = juntar(servicos);
+        int operacoes = resposta.length;
+        long totalAtrasadas = 0, totalErros = 0, totalRejeitadas = 0;
+        long[] totalPorTipo = new long[3];
+        for (int c = 0; c < atrasadas.length; c++) {
+            totalAtrasadas += atrasadas[c];
+            totalErros += erros[c];
+            totalRejeitadas += rejeitadas[c];
+            for (int tipo = 0; tipo < 3; tipo++) {
+                totalPorTipo[tipo] += porTipo[c][tipo];
+            }
+        }
+        
+        double vazao = operacoes * 1e9 / tempo;
+        System.out.printf("\n     • %,d operações (%,d leituras, %,d inserções, %,d falhas) em %.2f s: %,.0f ops/s (%.1f%% da taxa)\n",
+                        operacoes, totalPorTipo[0], totalPorTipo[1], totalPorTipo[2], tempo / 1e9, vazao,
+                        100.0 * vazao / configuracao.taxa);
+        System.out.printf("     • %,d elementos na tabela, %d respostas erradas (%,d inserções rejeitadas por falta de espaço)\n",
+                        tabela.getElementosInseridos(), totalErros, totalRejeitadas);
+        imprimirPercentis("resposta (desde o horário marcado)", resposta);
+        imprimirPercentis("serviço (desde o início real)", servico);
+        
+        double fracaoAtrasadas = (double) totalAtrasadas / operacoes;
+        if (fracaoAtrasadas > LIMITE_ATRASADAS) {
+            System.out.printf("     ⚠ omissão coordenada: %.1f%% das operações começaram mais de um intervalo atrasadas;\n",
+                            100 * fracaoAtrasadas);
+            System.out.println("       a latência de serviço subestima a que os clientes veriam, use a de resposta");
+        } else {
+            System.out.printf("     • %.2f%% das operações atrasadas: a carga foi aplicada no ritmo pedido\n", 100 * fracaoAtrasadas);
+        }
+    }
+    
+    private static long[] juntar(long[][] series) {
+        int total = 0;
+        for (long[] serie : series) {
+            total += serie.length;
+        }
+        long[] juntos = new long[total];
+        int posicao = 0;
+        for (long[] serie : series) {
+            System.arraycopy(serie, 0, juntos, posicao, serie.length);
+            posicao += serie.length;
+        }
+        return juntos;
+    }
+    
+    private static void imprimirPercentis(String nome, long[] latencias) {
+        long[] ordenadas = latencias.clone();
+        java.util.Arrays.sort(ordenadas);
+        System.out.printf("     • %-36s p50 %,9d ns | p90 %,9d ns | p99 %,10d ns | p99,9 %,11d ns | máx %,12d ns\n",
+                        nome, percentil(ordenadas, 0.50), percentil(ordenadas, 0.90), percentil(ordenadas, 0.99),
+                        percentil(ordenadas, 0.999), ordenadas[ordenadas.length - 1]);
+    }
+    
+    // Sobre um vetor já ordenado, com o mesmo arredondamento do ExecutorTestes
+    private static long percentil(long[] ordenadas, double p) {
+        int posicao = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(posicao, ordenadas.length - 1))];
+    }
+}
@@ -0,0 +1,51 @@
+// HyperLogLog com 2^14 registradores (erro padrão ~0,8%) para estimar quantos
+// códigos distintos há num lote antes de inseri-lo
+public class EstimadorCardinalidade {
+    private static final int PRECISAO = 14;
+    private static final int REGISTRADORES = 1 << PRECISAO;
+    private static final double ALFA = 0.7213 / (1 + 1.079 / REGISTRADORES);
+    
+    private byte[] registradores;
+    
+    public EstimadorCardinalidade() {
+        this.registradores = new byte[REGISTRADORES];
+    }
+    
+    public void adicionar(int codigo) {
+        long hash = misturar(codigo);
+        int indice = (int) (hash >>> (64 - PRECISAO));
+        // O bit de guarda limita o posto quando os bits restantes são todos zero
+        int posto = Long.numberOfLeadingZeros((hash << PRECISAO) | (1L << (PRECISAO - 1))) + 1;
+        if (posto > registradores[indice]) {
+            registradores[indice] = (byte) posto;
+        }
+    }
+    
+    public long estimar() {
+        double soma = 0;
+        int zerados = 0;
+        for (byte registrador : registradores) {
+            soma += 1.0 / (1L << registrador);
+            if (registrador == 0) zerados++;
+        }
+        
+        double estimativa = ALFA * REGISTRADORES * REGISTRADORES / soma;
+        
+        // Para poucos elementos a contagem linear dos registradores vazios é mais precisa
+        if (estimativa <= 2.5 * REGISTRADORES && zerados > 0) {
+            estimativa = REGISTRADORES * Math.log((double) REGISTRADORES / zerados);
+        }
+        return Math.round(estimativa);
+    }
+    
+    // Finalizador de 64 bits do MurmurHash3; com 64 bits não há correção para cardinalidades altas
+    private static long misturar(int codigo) {
+        long h = codigo;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
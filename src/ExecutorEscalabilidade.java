@@ -0,0 +1,252 @@
+import java.io.*;
+import java.util.function.IntFunction;
+
+// Modo de escalabilidade: fases só de leitura, só de escrita e mista, repetidas para cada
+// quantidade de threads, numa instância compartilhada de cada tabela concorrente e, como
+// referência, numa tabela sequencial própria de cada thread. Metade dos dados é carregada
+// antes (fora do tempo); a escrita insere a outra metade. Grava resultados/escalabilidade.csv
+public class ExecutorEscalabilidade {
+    private static final int TAMANHO_DADOS_PADRAO = 1000000;
+    private static final int TAMANHO_INICIAL_CRESCIMENTO = 1024;
+    // Na fase mista, uma operação em cada FRACAO_ESCRITA_MISTA é escrita
+    private static final int FRACAO_ESCRITA_MISTA = 10;
+    
+    private final int[] quantidadesThreads;
+    private final Registro[] registros;
+    private final StringBuilder csv;
+    // Vazão com a menor quantidade de threads, por tabela, modo e fase, para a eficiência
+    private final java.util.Map<String, Double> vazaoBase;
+    
+    // Uma tabela concorrente e a tabela sequencial que cada thread usa como referência; as
+    // fábricas recebem quantos elementos a instância vai guardar
+    private static final class Cenario {
+        final String nome;
+        final IntFunction<TabelaHashConcorrente> compartilhada;
+        final IntFunction<TabelaHash> porThread;
+        
+        Cenario(String nome, IntFunction<TabelaHashConcorrente> compartilhada, IntFunction<TabelaHash> porThread) {
+            this.nome = nome;
+            this.compartilhada = compartilhada;
+            this.porThread = porThread;
+        }
+    }
+    
+    private static final Cenario[] CENARIOS = {
+        new Cenario("EncadeamentoConcorrente",
+            n -> new TabelaHashEncadeamentoConcorrente(Math.max(1, n / 2), "multiplicacao"),
+            n -> new TabelaHashEncadeamento(Math.max(1, n / 2), "multiplicacao")),
+        new Cenario("PrimitivaConcorrente-linear",
+            n -> new TabelaHashPrimitivaConcorrente((int) (n / 0.7) + 1, "multiplicacao", "linear"),
+            n -> new TabelaHashPrimitiva((int) (n / 0.7) + 1, "multiplicacao", "linear")),
+        new Cenario("ConcorrenteRedimensionavel",
+            n -> new TabelaHashConcorrenteRedimensionavel(TAMANHO_INICIAL_CRESCIMENTO, "multiplicacao"),
+            n -> new TabelaHashRehashing(TAMANHO_INICIAL_CRESCIMENTO, "multiplicacao", "linear", true)),
+        new Cenario("Sincronizada-Primitiva-linear",
+            n -> new TabelaHashSincronizada(new TabelaHashPrimitiva((int) (n / 0.7) + 1, "multiplicacao", "linear")),
+            n -> new TabelaHashPrimitiva((int) (n / 0.7) + 1, "multiplicacao", "linear")),
+    };
+    
+    // Argumentos: quantidades de threads separadas por vírgula (padrão 1, 2, 4... até os
+    // núcleos) e o tamanho do conjunto de dados (padrão 1.000.000)
+    public static void main(String[] args) {
+        System.out.println(" MODO ESCALABILIDADE");
+        System.out.println("=====================");
+        
+        int[] threads = args.length > 0 ? lerThreads(args[0]) : threadsPadrao();
+        int tamanhoDados = args.length > 1 ? Integer.parseInt(args[1]) : TAMANHO_DADOS_PADRAO;
+        
+        Registro[] dados;
+        try {
+            dados = GeradorDados.carregarDados("dados/conjunto_" + tamanhoDados + ".txt");
+        } catch (IOException e) {
+            System.out.println("    Erro ao carregar dados: " + e.getMessage());
+            return;
+        }
+        
+        ExecutorEscalabilidade executor = new ExecutorEscalabilidade(threads, dados);
+        try {
+            executor.executar();
+            executor.exportarCSV();
+        } catch (Exception e) {
+            System.err.println(" Erro: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+    
+    private static int[] lerThreads(String lista) {
+        int[] threads = java.util.Arrays.stream(lista.split(",")).mapToInt(t -> Integer.parseInt(t.trim())).sorted().distinct().toArray();
+        if (threads.length == 0 || threads[0] < 1) {
+            throw new IllegalArgumentException("Quantidades de threads devem ser positivas: " + lista);
+        }
+        return threads;
+    }
+    
+    private static int[] threadsPadrao() {
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        java.util.TreeSet<Integer> threads = new java.util.TreeSet<>();
+        for (int t = 1; t < nucleos; t *= 2) {
+            threads.add(t);
+        }
+        threads.add(nucleos);
+        return threads.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    public ExecutorEscalabilidade(int[] quantidadesThreads, Registro[] dados) {
+        this.quantidadesThreads = quantidadesThreads;
+        this.registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+        this.csv = new StringBuilder("Tabela,Modo,Fase,Threads,Elementos,Operacoes,TempoNs,OpsPorSegundo,Eficiencia,Disputas,BuscasSemResultado,InsercoesRejeitadas\n");
+        this.vazaoBase = new java.util.HashMap<>();
+    }
+    
+    public void executar() {
+        System.out.printf("\n Dados=%,d | Threads=%s\n", registros.length, java.util.Arrays.toString(quantidadesThreads));
+        if (registros.length < 2 * quantidadesThreads[quantidadesThreads.length - 1]) {
+            System.out.println("     Dados insuficientes para a maior quantidade de threads, pulando...");
+            return;
+        }
+        
+        for (Cenario cenario : CENARIOS) {
+            System.out.printf("\n %s\n", cenario.nome);
+            for (int threads : quantidadesThreads) {
+                medirCompartilhada(cenario, threads);
+                medirPorThread(cenario, threads);
+            }
+        }
+    }
+    
+    // Todas as threads na mesma instância; cada uma escreve a sua fatia da segunda metade
+    private void medirCompartilhada(Cenario cenario, int threads) {
+        int metade = registros.length / 2;
+        TabelaHashConcorrente tabela = cenario.compartilhada.apply(registros.length);
+        java.util.concurrent.atomic.LongAdder rejeitadas = new java.util.concurrent.atomic.LongAdder();
+        for (int i = 0; i < metade; i++) {
+            inserir(tabela, registros[i], rejeitadas);
+        }
+        avisarRejeitadasNaCarga(rejeitadas.sum());
+        
+        TabelaHashConcorrente[] porThread = new TabelaHashConcorrente[threads];
+        java.util.Arrays.fill(porThread, tabela);
+        executarFases(cenario.nome, "compartilhada", threads, porThread, 0, metade, tabela::getDisputas);
+    }
+    
+    // Cada thread com a sua tabela sequencial e a sua fatia dos dados: nada é compartilhado
+    private void medirPorThread(Cenario cenario, int threads) {
+        int metade = registros.length / 2;
+        TabelaHash[] tabelas = new TabelaHash[threads];
+        java.util.concurrent.atomic.LongAdder rejeitadas = new java.util.concurrent.atomic.LongAdder();
+        for (int t = 0; t < threads; t++) {
+            tabelas[t] = cenario.porThread.apply(registros.length / threads + 1);
+            for (int i = inicioFatia(0, metade, t, threads); i < inicioFatia(0, metade, t + 1, threads); i++) {
+                inserir(tabelas[t], registros[i], rejeitadas);
+            }
+        }
+        avisarRejeitadasNaCarga(rejeitadas.sum());
+        executarFases(cenario.nome, "por_thread", threads, tabelas, 1, metade, () -> 0L);
+    }
+    
+    // Com separadas = 0 toda thread lê da primeira metade inteira; com 1 só da própria fatia
+    private void executarFases(String nome, String modo, int threads, TabelaHash[] tabelas, int separadas,
+                               int metade, java.util.function.LongSupplier disputas) {
+        int operacoesPorThread = metade / threads;
+        java.util.concurrent.atomic.LongAdder semResultado = new java.util.concurrent.atomic.LongAdder();
+        java.util.concurrent.atomic.LongAdder rejeitadas = new java.util.concurrent.atomic.LongAdder();
+        
+        long disputasAntes = disputas.getAsLong();
+        long tempo = ExecutorTestes.executarEmThreads(threads, t -> {
+            TabelaHash tabela = tabelas[t];
+            java.util.Random aleatorio = new java.util.Random(t);
+            int inicio = separadas * inicioFatia(0, metade, t, threads);
+            int tamanho = separadas == 0 ? metade : inicioFatia(0, metade, t + 1, threads) - inicio;
+            for (int i = 0; i < operacoesPorThread; i++) {
+                if (!tabela.contem(registros[inicio + aleatorio.nextInt(tamanho)].getCodigoInt())) semResultado.increment();
+            }
+        });
+        registrar(nome, modo, "leitura", threads, tabelas, (long) operacoesPorThread * threads, tempo,
+                  disputas.getAsLong() - disputasAntes, semResultado.sum(), 0);
+        
+        disputasAntes = disputas.getAsLong();
+        tempo = ExecutorTestes.executarEmThreads(threads, t -> {
+            TabelaHash tabela = tabelas[t];
+            for (int i = inicioFatia(metade, registros.length, t, threads); i < inicioFatia(metade, registros.length, t + 1, threads); i++) {
+                inserir(tabela, registros[i], rejeitadas);
+            }
+        });
+        registrar(nome, modo, "escrita", threads, tabelas, registros.length - metade, tempo,
+                  disputas.getAsLong() - disputasAntes, 0, rejeitadas.sum());
+        
+        // Escritas alternam remover e reinserir um código da própria fatia, e o tamanho se mantém;
+        // as leituras são da primeira metade, que nunca sai da tabela
+        semResultado.reset();
+        rejeitadas.reset();
+        disputasAntes = disputas.getAsLong();
+        tempo = ExecutorTestes.executarEmThreads(threads, t -> {
+            TabelaHash tabela = tabelas[t];
+            java.util.Random aleatorio = new java.util.Random(t);
+            int inicio = separadas * inicioFatia(0, metade, t, threads);
+            int tamanho = separadas == 0 ? metade : inicioFatia(0, metade, t + 1, threads) - inicio;
+            int proprio = inicioFatia(metade, registros.length, t, threads);
+            int fimProprio = inicioFatia(metade, registros.length, t + 1, threads);
+            int escritas = 0;
+            for (int i = 0; i < operacoesPorThread; i++) {
+                if (i % FRACAO_ESCRITA_MISTA != 0 || fimProprio == proprio) {
+                    if (!tabela.contem(registros[inicio + aleatorio.nextInt(tamanho)].getCodigoInt())) semResultado.increment();
+                } else {
+                    Registro registro = registros[proprio + (escritas / 2) % (fimProprio - proprio)];
+                    if (escritas++ % 2 == 0) tabela.remover(registro.getCodigoInt()); else inserir(tabela, registro, rejeitadas);
+                }
+            }
+        });
+        registrar(nome, modo, "mista", threads, tabelas, (long) operacoesPorThread * threads, tempo,
+                  disputas.getAsLong() - disputasAntes, semResultado.sum(), rejeitadas.sum());
+    }
+    
+    // Um false de quem não tem o código é falta de espaço, não duplicata: a
+    // PrimitivaConcorrente não reaproveita marcadores e recusa inserções quando eles se acumulam
+    private static void inserir(TabelaHash tabela, Registro registro, java.util.concurrent.atomic.LongAdder rejeitadas) {
+        if (!tabela.inserir(registro) && !tabela.contem(registro.getCodigoInt())) {
+            rejeitadas.increment();
+        }
+    }
+    
+    private static void avisarRejeitadasNaCarga(long rejeitadas) {
+        if (rejeitadas > 0) {
+            System.out.printf("     ⚠ %,d inserções rejeitadas por falta de espaço na carga inicial\n", rejeitadas);
+        }
+    }
+    
+    private static int inicioFatia(int inicio, int fim, int fatia, int fatias) {
+        return inicio + (int) ((long) (fim - inicio) * fatia / fatias);
+    }
+    
+    // Eficiência = vazão por thread sobre a vazão por thread com a menor quantidade medida
+    private void registrar(String nome, String modo, String fase, int threads, TabelaHash[] tabelas,
+                           long operacoes, long tempoNs, long disputas, long semResultado, long rejeitadas) {
+        double vazao = operacoes * 1e9 / tempoNs;
+        String chave = nome + "/" + modo + "/" + fase;
+        if (threads == quantidadesThreads[0]) {
+            vazaoBase.put(chave, vazao / threads);
+        }
+        double eficiencia = vazao / threads / vazaoBase.get(chave);
+        
+        long elementos = 0;
+        for (int t = 0; t < tabelas.length; t++) {
+            if (t == 0 || tabelas[t] != tabelas[t - 1]) elementos += tabelas[t].getElementosInseridos();
+        }
+        
+        System.out.printf("     • %-12s %-8s %2d thread(s): %,14.0f ops/s, eficiência %5.2f, %,d disputas%s\n",
+                        modo, fase, threads, vazao, eficiencia, disputas,
+                        rejeitadas > 0 ? String.format(", %,d inserções rejeitadas", rejeitadas) : "");
+        csv.append(String.format("%s,%s,%s,%d,%d,%d,%d,%.0f,%.4f,%d,%d,%d\n",
+                   nome, modo, fase, threads, elementos, operacoes, tempoNs, vazao, eficiencia, disputas, semResultado, rejeitadas));
+    }
+    
+    private void exportarCSV() throws IOException {
+        File pastaResultados = new File("resultados");
+        pastaResultados.mkdirs();
+        
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter("resultados/escalabilidade.csv"))) {
+            writer.write(csv.toString());
+        }
+        System.out.println("\n CSV salvo: resultados/escalabilidade.csv");
+    }
+}
@@ -1,4 +1,6 @@
 import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
 
 public class ExecutorTestes {
     // Tamanhos conforme o enunciado
@@ -6,12 +8,30 @@ public class ExecutorTestes {
     private static final int[] TAMANHOS_DADOS = {100000, 1000000, 10000000};
     
     private static final String[] FUNCOES_HASH = {"multiplicacao", "dobramento", "xorshift"};
+    private static final String[] FUNCOES_HASH_MISTURADORAS = {"fibonacci", "murmur3", "wyhash"};
     private static final String[] TIPOS_REHASH = {"linear", "quadratico", "duplo"};
+    private static final double[] CARGAS_DESLOCAMENTO = {0.75, 0.85, 0.95};
+    private static final int TAMANHO_INICIAL_CRESCIMENTO = 1024;
+    private static final int AMOSTRAGEM_LATENCIA = 8;
+    // O dobramento leva todo código a no máximo 2.998 posições de origem; sem recusar
+    // inserções, a sondagem linear percorre o agrupamento inteiro e o custo fica quadrático
+    private static final int LIMITE_DOBRAMENTO_LINEAR = 100000;
     
     private ResultadoTeste[] resultados;
     private int totalResultados;
     
     public static void main(String[] args) {
+        // "escalabilidade [threads] [dados]" roda só o modo de escalabilidade
+        if (args.length > 0 && args[0].equals("escalabilidade")) {
+            ExecutorEscalabilidade.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // "carga nome=valor..." roda só a carga mista (DriverCargaMista)
+        if (args.length > 0 && args[0].equals("carga")) {
+            DriverCargaMista.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        
         System.out.println(" EXECUTOR DE TESTES - CONFORMIDADE COM ENUNCIADO");
         System.out.println("==================================================");
         
@@ -24,6 +44,22 @@ public class ExecutorTestes {
             
             // Executar testes
             executor.executarTestesConformeEnunciado();
+            executor.executarComparacaoPrimitiva();
+            executor.executarComparacaoRedimensionamento();
+            executor.executarComparacaoRobinHood();
+            executor.executarComparacaoCuckoo();
+            executor.executarComparacaoSwiss();
+            executor.executarComparacaoCoalescida();
+            executor.executarComparacaoDuasEscolhas();
+            executor.executarComparacaoFuncoesHash();
+            executor.executarComparacaoInsercaoLote();
+            executor.executarComparacaoRemocao();
+            executor.executarEscalonamentoConstrucao();
+            executor.executarComparacaoParticionamento();
+            executor.executarComparacaoAutoOrganizacao();
+            executor.executarEstresseConcorrente();
+            executor.executarEscalabilidadeLivreDeTravas();
+            executor.executarLatenciaDuranteCrescimento();
             executor.exportarResultadosCSV();
             executor.gerarRelatorioDetalhado();
             
@@ -39,13 +75,25 @@ public class ExecutorTestes {
         for (int tamanhoTabela : TAMANHOS_TABELA) {
             for (int tamanhoDados : TAMANHOS_DADOS) {
                 if (tamanhoDados <= tamanhoTabela * 10) { // Critério do enunciado
-                    maxTestes += FUNCOES_HASH.length; // Encadeamento
-                    if (tamanhoDados <= tamanhoTabela * 0.8) { // Rehashing
+                    maxTestes += FUNCOES_HASH.length * 3; // Encadeamento com nós, com índices e linear
+                    if (tamanhoDados <= tamanhoTabela * 0.8) { // Rehashing, Primitiva e Hopscotch
+                        maxTestes += FUNCOES_HASH.length * (TIPOS_REHASH.length * 2 + 1);
+                    } else { // Rehashing redimensionável
                         maxTestes += FUNCOES_HASH.length * TIPOS_REHASH.length;
                     }
                 }
             }
         }
+        maxTestes += TAMANHOS_DADOS.length * 2; // Comparação Registro[] x int[]
+        maxTestes += TAMANHOS_DADOS.length * 2; // Pré-dimensionada x redimensionável
+        maxTestes += CARGAS_DESLOCAMENTO.length * 3; // Linear x Robin Hood x Hopscotch
+        maxTestes += TAMANHOS_DADOS.length * 2; // Linear x Cuckoo
+        maxTestes += TAMANHOS_DADOS.length * 2; // Linear x Swiss
+        maxTestes += CARGAS_DESLOCAMENTO.length * 3; // Linear x Coalescida sem e com porão
+        maxTestes += TAMANHOS_TABELA.length * TAMANHOS_DADOS.length * 2; // Uma x duas escolhas
+        maxTestes += 2 * (FUNCOES_HASH.length + FUNCOES_HASH_MISTURADORAS.length); // Funções de hash
+        maxTestes += TAMANHOS_DADOS.length * 4; // Inserção um a um x em lote
+        maxTestes += TAMANHOS_DADOS.length * 5; // Rotatividade de inserções e remoções
         this.resultados = new ResultadoTeste[maxTestes];
         this.totalResultados = 0;
         
@@ -79,8 +127,11 @@ public class ExecutorTestes {
                     // Testar Encadeamento
                     System.out.println("    ENCADEAMENTO:");
                     for (String funcaoHash : FUNCOES_HASH) {
-                        testarEncadeamento(tamanhoTabela, dados, funcaoHash);
-                        testesExecutados++;
+                        Metricas comNos = testarEncadeamento(tamanhoTabela, dados, funcaoHash);
+                        Metricas comIndices = testarEncadeamentoPrimitivo(tamanhoTabela, dados, funcaoHash);
+                        compararEncadeamentos(comNos, comIndices);
+                        testarEncadeamentoLinear(tamanhoTabela, dados, funcaoHash);
+                        testesExecutados += 3;
                     }
                     
                     // Testar Rehashing apenas se carga for <= 80%
@@ -89,11 +140,20 @@ public class ExecutorTestes {
                         for (String funcaoHash : FUNCOES_HASH) {
                             for (String tipoRehash : TIPOS_REHASH) {
                                 testarRehashing(tamanhoTabela, dados, funcaoHash, tipoRehash);
-                                testesExecutados++;
+                                testarPrimitiva(tamanhoTabela, dados, funcaoHash, tipoRehash);
+                                testesExecutados += 2;
                             }
+                            testarHopscotch(tamanhoTabela, dados, funcaoHash);
+                            testesExecutados++;
                         }
                     } else {
-                        System.out.println("    Rehashing: Não aplicável (carga > 80%)");
+                        System.out.println("    REHASHING REDIMENSIONÁVEL (carga > 80%):");
+                        for (String funcaoHash : FUNCOES_HASH) {
+                            for (String tipoRehash : TIPOS_REHASH) {
+                                testarRehashingRedimensionavel(tamanhoTabela, dados, funcaoHash, tipoRehash);
+                                testesExecutados++;
+                            }
+                        }
                     }
                 } else {
                     System.out.printf("     Pulando - Carga muito alta (%,d dados em %,d tabela)\n", 
@@ -108,94 +168,1119 @@ public class ExecutorTestes {
         System.out.println(" Resultados coletados: " + totalResultados);
     }
     
-    private Registro[] carregarDadosConformeEnunciado(int tamanho) {
-        String arquivo = "dados/conjunto_" + tamanho + ".txt";
-        try {
-            return GeradorDados.carregarDados(arquivo);
-        } catch (IOException e) {
-            System.out.println("    Erro ao carregar " + arquivo + ": " + e.getMessage());
-            return null;
+    // Tabelas dimensionadas para caber cada conjunto inteiro (carga ~70%),
+    // comparando Registro[] com int[] na memória e no tempo
+    public void executarComparacaoPrimitiva() {
+        System.out.println("\n COMPARAÇÃO REGISTRO[] x INT[]");
+        System.out.println("===============================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            int tamanhoTabela = (int) (tamanhoDados / 0.7);
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d\n", tamanhoTabela, tamanhoDados);
+            
+            testarRehashing(tamanhoTabela, dados, "multiplicacao", "linear");
+            testarPrimitiva(tamanhoTabela, dados, "multiplicacao", "linear");
         }
     }
     
-    // Os métodos testarEncadeamento, testarRehashing permanecem iguais
-    private void testarEncadeamento(int tamanhoTabela, Registro[] dados, String funcaoHash) {
-        System.out.printf("     • %s...", funcaoHash);
+    // Mesma carga final com a tabela já dimensionada e com a tabela crescendo
+    // a partir do menor tamanho do enunciado, comparando a latência p99 da inserção
+    public void executarComparacaoRedimensionamento() {
+        System.out.println("\n COMPARAÇÃO PRÉ-DIMENSIONADA x REDIMENSIONÁVEL");
+        System.out.println("==============================================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            int tamanhoTabela = (int) (tamanhoDados / 0.7);
+            System.out.printf("\n CENÁRIO: Dados=%,d\n", tamanhoDados);
+            
+            System.out.printf("     • pré-dimensionada (%,d)...", tamanhoTabela);
+            testarTabela(() -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", "linear"), dados, true);
+            testarRehashingRedimensionavel(TAMANHOS_TABELA[0], dados, "multiplicacao", "linear");
+        }
+    }
+    
+    // Variância do deslocamento da sondagem linear comparada à do Robin Hood
+    // e à do hopscotch, enchendo a maior tabela do enunciado até cada carga
+    public void executarComparacaoRobinHood() {
+        System.out.println("\n COMPARAÇÃO LINEAR x ROBIN HOOD x HOPSCOTCH");
+        System.out.println("============================================");
+        
+        int tamanhoTabela = TAMANHOS_TABELA[TAMANHOS_TABELA.length - 1];
+        Registro[] dados = carregarDadosConformeEnunciado(TAMANHOS_DADOS[0]);
+        if (dados == null || dados.length == 0) {
+            System.out.println("     Dados não disponíveis, pulando...");
+            return;
+        }
+        
+        for (double carga : CARGAS_DESLOCAMENTO) {
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Carga=%.0f%%\n", tamanhoTabela, carga * 100);
+            for (String tipoRehash : new String[] {"linear", "robinhood"}) {
+                System.out.printf("     • multiplicacao + %s...", tipoRehash);
+                Metricas metricas = testarTabela(
+                    () -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", tipoRehash, false, carga), dados);
+                imprimirDeslocamentos(metricas);
+            }
+            
+            System.out.printf("     • multiplicacao + hopscotch...");
+            imprimirDeslocamentos(testarTabela(
+                () -> new TabelaHashHopscotch(tamanhoTabela, "multiplicacao", carga), dados));
+        }
+    }
+    
+    // Custo extra de inserção (expulsões, stash) que o cuckoo paga pela busca
+    // em no máximo dois baldes, com as duas tabelas a 90% de carga
+    public void executarComparacaoCuckoo() {
+        System.out.println("\n COMPARAÇÃO LINEAR x CUCKOO");
+        System.out.println("============================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            int tamanhoTabela = (int) (tamanhoDados / 0.9);
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d\n", tamanhoTabela, tamanhoDados);
+            
+            System.out.printf("     • multiplicacao + linear...");
+            testarTabela(() -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", "linear", false, 0.95), dados);
+            
+            System.out.printf("     • cuckoo multiplicacao + xorshift...");
+            Metricas metricas = testarTabela(() -> new TabelaHashCuckoo(tamanhoTabela), dados);
+            if (metricas != null) {
+                System.out.printf("       %,d expulsões, stash com até %d códigos, %,d slots ao final\n", 
+                                metricas.getExpulsoes(), metricas.getUsoStash(), metricas.getTamanhoTabela());
+            }
+        }
+    }
+    
+    // Sondagem por grupos de 8 bytes de controle contra a sondagem linear
+    // slot a slot, nos conjuntos de 1 e 10 milhões a 80% de carga
+    public void executarComparacaoSwiss() {
+        System.out.println("\n COMPARAÇÃO LINEAR x SWISS");
+        System.out.println("===========================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            if (tamanhoDados < 1000000) {
+                continue;
+            }
+            
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            int tamanhoTabela = (int) (tamanhoDados / 0.8);
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d\n", tamanhoTabela, tamanhoDados);
+            
+            System.out.printf("     • multiplicacao + linear...");
+            testarTabela(() -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", "linear", false, 0.875), dados);
+            
+            System.out.printf("     • multiplicacao + swiss...");
+            testarTabela(() -> new TabelaHashSwiss(tamanhoTabela, "multiplicacao"), dados);
+        }
+    }
+    
+    // Listas da coalescida (sem porão e com o porão de ~14% sugerido por Knuth)
+    // contra os agrupamentos da sondagem linear, com a tabela cheia até cada carga
+    public void executarComparacaoCoalescida() {
+        System.out.println("\n COMPARAÇÃO LINEAR x COALESCIDA");
+        System.out.println("================================");
         
+        Registro[] dados = carregarDadosConformeEnunciado(TAMANHOS_DADOS[0]);
+        if (dados == null || dados.length == 0) {
+            System.out.println("     Dados não disponíveis, pulando...");
+            return;
+        }
+        
+        for (double carga : CARGAS_DESLOCAMENTO) {
+            int tamanhoTabela = (int) (dados.length / carga);
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Carga=%.0f%%\n", tamanhoTabela, carga * 100);
+            
+            System.out.printf("     • multiplicacao + linear...");
+            imprimirDeslocamentos(testarTabela(
+                () -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", "linear", false, 0.99), dados));
+            
+            for (int tamanhoPorao : new int[] {0, (int) (tamanhoTabela * 0.14)}) {
+                System.out.printf("     • multiplicacao + coalescida (porão %,d)...", tamanhoPorao);
+                Metricas metricas = testarTabela(
+                    () -> new TabelaHashCoalescida(tamanhoTabela, "multiplicacao", tamanhoPorao), dados);
+                if (metricas != null) {
+                    System.out.printf("       maiores listas %d, %d, %d\n", metricas.getMaiorLista(),
+                                    metricas.getSegundaMaiorLista(), metricas.getTerceiraMaiorLista());
+                }
+            }
+        }
+    }
+    
+    // Nos cenários sobrecarregados do enunciado (mais dados que baldes), a maior
+    // lista com uma escolha de balde contra duas, e o que isso custa na busca
+    public void executarComparacaoDuasEscolhas() {
+        System.out.println("\n COMPARAÇÃO UMA x DUAS ESCOLHAS");
+        System.out.println("================================");
+        
+        for (int tamanhoTabela : TAMANHOS_TABELA) {
+            for (int tamanhoDados : TAMANHOS_DADOS) {
+                if (tamanhoDados > tamanhoTabela * 10 || tamanhoDados <= tamanhoTabela) {
+                    continue;
+                }
+                
+                Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+                if (dados == null || dados.length == 0) {
+                    System.out.println("     Dados não disponíveis, pulando...");
+                    continue;
+                }
+                
+                System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d\n", tamanhoTabela, tamanhoDados);
+                
+                Metricas umaEscolha = testarEncadeamento(tamanhoTabela, dados, "multiplicacao");
+                
+                System.out.printf("     • multiplicacao + xorshift (duas escolhas)...");
+                Metricas duasEscolhas = testarTabela(() -> new TabelaHashDuasEscolhas(tamanhoTabela), dados);
+                
+                if (umaEscolha != null && duasEscolhas != null) {
+                    System.out.printf("       maior lista %d -> %d, comparações por busca %.2f -> %.2f, busca %.2f ms -> %.2f ms\n",
+                                    umaEscolha.getMaiorLista(), duasEscolhas.getMaiorLista(),
+                                    umaEscolha.getComparacoesMediaBusca(), duasEscolhas.getComparacoesMediaBusca(),
+                                    umaEscolha.getTempoBusca() / 1_000_000.0, duasEscolhas.getTempoBusca() / 1_000_000.0);
+                }
+            }
+        }
+    }
+    
+    // Funções do enunciado contra os misturadores inteiros, no encadeamento com
+    // 1 milhão de códigos; a tabela potência de dois usa a máscara em vez do fastrange
+    public void executarComparacaoFuncoesHash() {
+        System.out.println("\n COMPARAÇÃO DE FUNÇÕES DE HASH");
+        System.out.println("===============================");
+        
+        Registro[] dados = carregarDadosConformeEnunciado(TAMANHOS_DADOS[1]);
+        if (dados == null || dados.length == 0) {
+            System.out.println("     Dados não disponíveis, pulando...");
+            return;
+        }
+        
+        int maiorTabela = TAMANHOS_TABELA[TAMANHOS_TABELA.length - 1];
+        for (int tamanhoTabela : new int[] {maiorTabela, Integer.highestOneBit(maiorTabela) << 1}) {
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d\n", tamanhoTabela, dados.length);
+            for (String funcaoHash : FUNCOES_HASH) {
+                testarEncadeamento(tamanhoTabela, dados, funcaoHash);
+            }
+            for (String funcaoHash : FUNCOES_HASH_MISTURADORAS) {
+                testarEncadeamento(tamanhoTabela, dados, funcaoHash);
+            }
+        }
+    }
+    
+    // Tabelas que crescem a partir do menor tamanho do enunciado, alimentadas registro
+    // a registro e por inserirLote, que estima os distintos (HyperLogLog) e dimensiona antes
+    public void executarComparacaoInsercaoLote() {
+        System.out.println("\n COMPARAÇÃO INSERÇÃO UM A UM x EM LOTE");
+        System.out.println("=======================================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            EstimadorCardinalidade estimador = new EstimadorCardinalidade();
+            int[] codigos = new int[dados.length];
+            int total = 0;
+            for (Registro registro : dados) {
+                if (registro != null) {
+                    estimador.adicionar(registro.getCodigoInt());
+                    codigos[total++] = registro.getCodigoInt();
+                }
+            }
+            long estimados = estimador.estimar();
+            int distintos = contarDistintos(codigos, total);
+            
+            System.out.printf("\n CENÁRIO: Dados=%,d\n", tamanhoDados);
+            System.out.printf("     Distintos: estimados %,d, reais %,d (erro %.2f%%), %,d duplicatas\n",
+                            estimados, distintos, (estimados - distintos) * 100.0 / distintos, total - distintos);
+            System.out.printf("     Dimensionar pela estimativa poupa %,d posições (%.1f MB de referências) a 75%% de carga\n",
+                            (long) ((total - estimados) / 0.75), (total - estimados) / 0.75 * 4 / (1024.0 * 1024.0));
+            
+            int tamanhoInicial = TAMANHOS_TABELA[0];
+            
+            System.out.printf("     • multiplicacao + linear redimensionável, um a um...");
+            Metricas umAUm = testarTabela(() -> new TabelaHashRehashing(tamanhoInicial, "multiplicacao", "linear", true), dados);
+            System.out.printf("     • multiplicacao + linear redimensionável, em lote...");
+            Metricas emLote = testarTabela(() -> new TabelaHashRehashing(tamanhoInicial, "multiplicacao", "linear", true), dados, false, true);
+            imprimirGanhoLote(umAUm, emLote);
+            
+            System.out.printf("     • multiplicacao (hashing linear), um a um...");
+            umAUm = testarTabela(() -> new TabelaHashEncadeamentoLinear(tamanhoInicial, "multiplicacao"), dados);
+            System.out.printf("     • multiplicacao (hashing linear), em lote...");
+            emLote = testarTabela(() -> new TabelaHashEncadeamentoLinear(tamanhoInicial, "multiplicacao"), dados, false, true);
+            imprimirGanhoLote(umAUm, emLote);
+        }
+    }
+    
+    // Metade dos dados entra e, a cada rodada, os mais antigos saem e novos entram: a carga
+    // viva fica constante, mas as remoções deixam marcadores que alongam a busca sem sucesso.
+    // No fim quase tudo é removido, para ver a tabela redimensionável encolher
+    public void executarComparacaoRemocao() {
+        System.out.println("\n COMPARAÇÃO ROTATIVIDADE DE INSERÇÕES E REMOÇÕES");
+        System.out.println("==================================================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            // Linhas fora do formato deixam posições nulas no fim do vetor carregado
+            Registro[] registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+            if (registros.length < 2) {
+                System.out.println("     Dados insuficientes, pulando...");
+                continue;
+            }
+            
+            // Metade de carga viva deixa folga para os marcadores se acumularem antes da compactação
+            int tamanhoTabela = tamanhoDados;
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d\n", tamanhoTabela, tamanhoDados);
+            
+            System.out.printf("     • multiplicacao + linear...");
+            testarRotatividade(() -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", "linear"), registros);
+            System.out.printf("     • multiplicacao + duplo...");
+            testarRotatividade(() -> new TabelaHashRehashing(tamanhoTabela, "multiplicacao", "duplo"), registros);
+            System.out.printf("     • multiplicacao + linear (redimensionável a partir de %,d)...", TAMANHOS_TABELA[0]);
+            testarRotatividade(() -> new TabelaHashRehashing(TAMANHOS_TABELA[0], "multiplicacao", "linear", true), registros);
+            System.out.printf("     • multiplicacao + linear (int[])...");
+            testarRotatividade(() -> new TabelaHashPrimitiva(tamanhoTabela, "multiplicacao", "linear"), registros);
+            System.out.printf("     • multiplicacao + swiss...");
+            testarRotatividade(() -> new TabelaHashSwiss(tamanhoTabela, "multiplicacao"), registros);
+        }
+    }
+    
+    private Metricas testarRotatividade(Supplier<TabelaHash> fabrica, Registro[] dados) {
+        final int rodadas = 10;
         try {
-            TabelaHashEncadeamento tabela = new TabelaHashEncadeamento(tamanhoTabela, funcaoHash);
+            TabelaHash tabela = fabrica.get();
+            int metade = dados.length / 2;
+            int porRodada = metade / rodadas;
+            
+            for (int i = 0; i < metade; i++) {
+                tabela.inserir(dados[i]);
+            }
             
             long inicio = System.nanoTime();
-            for (Registro registro : dados) {
-                if (registro != null) tabela.inserir(registro);
+            for (int rodada = 0; rodada < rodadas; rodada++) {
+                int base = rodada * porRodada;
+                for (int i = base; i < base + porRodada; i++) {
+                    tabela.remover(dados[i].getCodigoInt());
+                }
+                for (int i = metade + base; i < metade + base + porRodada; i++) {
+                    tabela.inserir(dados[i]);
+                }
             }
             long fim = System.nanoTime();
             
             long inicioBusca = System.nanoTime();
-            for (Registro registro : dados) {
-                if (registro != null) tabela.buscar(registro.getCodigo());
+            for (int i = metade; i < dados.length; i++) {
+                tabela.contem(dados[i].getCodigoInt());
             }
             long fimBusca = System.nanoTime();
             
             Metricas metricas = tabela.calcularMetricas();
             metricas.setTempoInsercao(fim - inicio);
             metricas.setTempoBusca(fimBusca - inicioBusca);
-            
             if (totalResultados < resultados.length) {
-                resultados[totalResultados++] = new ResultadoTeste(metricas, dados.length);
+                resultados[totalResultados++] = new ResultadoTeste(metricas, tabela.getElementosInseridos());
             }
             
-            System.out.printf("  %d colisões, %.2f ms\n", 
-                            metricas.getColisoes(), 
-                            metricas.getTempoInsercao() / 1_000_000.0);
+            System.out.printf("  %,d vivos, %,d marcadores, sondagem sem sucesso %.2f, rodadas %.2f ms",
+                            metricas.getElementosInseridos(), metricas.getMarcadoresRemocao(),
+                            metricas.getSondagemMediaMalSucedida(), metricas.getTempoInsercao() / 1_000_000.0);
+            if (tabela instanceof TabelaHashRehashing) {
+                System.out.printf(", %d compactações", ((TabelaHashRehashing) tabela).getCompactacoes());
+            }
+            System.out.println();
+            
+            // Esvaziar quase tudo: só a redimensionável devolve posições
+            int tamanhoAntes = tabela.getTamanho();
+            for (int i = metade; i < dados.length - dados.length / 20; i++) {
+                tabela.remover(dados[i].getCodigoInt());
+            }
+            System.out.printf("       após esvaziar: %,d vivos, tabela %,d -> %,d posições\n",
+                            tabela.getElementosInseridos(), tamanhoAntes, tabela.getTamanho());
+            return metricas;
             
         } catch (Exception e) {
             System.out.printf("  Erro\n");
+            return null;
         }
     }
     
+    // Construção fork-join do encadeamento com 1, 2, 4... até todos os núcleos, conferida
+    // contra a inserção um a um: colisões e listas precisam sair idênticas
+    public void executarEscalonamentoConstrucao() {
+        System.out.println("\n ESCALONAMENTO DA CONSTRUÇÃO PARALELA (ENCADEAMENTO)");
+        System.out.println("=====================================================");
+        
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            // Carga 1: listas curtas, para a referência um a um não dominar o cenário
+            int tamanhoTabela = tamanhoDados;
+            System.out.printf("\n CENÁRIO: Tabela=%,d | Dados=%,d | Núcleos=%d\n", tamanhoTabela, tamanhoDados, nucleos);
+            
+            long inicio = System.nanoTime();
+            TabelaHashEncadeamento sequencial = new TabelaHashEncadeamento(tamanhoTabela, "multiplicacao");
+            for (Registro registro : dados) {
+                if (registro != null) sequencial.inserir(registro);
+            }
+            long tempoSequencial = System.nanoTime() - inicio;
+            Metricas referencia = sequencial.calcularMetricas();
+            System.out.printf("     • um a um: %.2f ms\n", tempoSequencial / 1_000_000.0);
+            sequencial = null;
+            
+            long tempoUmaThread = 0;
+            for (int threads = 1; ; threads = Math.min(threads * 2, nucleos)) {
+                inicio = System.nanoTime();
+                TabelaHashEncadeamento paralela = TabelaHashEncadeamento.construirEmParalelo(tamanhoTabela, "multiplicacao", dados, threads);
+                long tempo = System.nanoTime() - inicio;
+                if (threads == 1) {
+                    tempoUmaThread = tempo;
+                }
+                
+                Metricas metricas = paralela.calcularMetricas();
+                boolean identicas = metricas.getColisoes() == referencia.getColisoes()
+                    && metricas.getElementosInseridos() == referencia.getElementosInseridos()
+                    && metricas.getMaiorLista() == referencia.getMaiorLista()
+                    && metricas.getSegundaMaiorLista() == referencia.getSegundaMaiorLista()
+                    && metricas.getTerceiraMaiorLista() == referencia.getTerceiraMaiorLista()
+                    && metricas.getMediaGaps() == referencia.getMediaGaps();
+                
+                System.out.printf("     • fork-join, %2d thread(s): %.2f ms, %.2fx sobre 1 thread, métricas %s\n",
+                                threads, tempo / 1_000_000.0, (double) tempoUmaThread / tempo,
+                                identicas ? "idênticas" : "DIFERENTES");
+                if (threads == nucleos) {
+                    break;
+                }
+            }
+        }
+    }
+    
+    // Construção em uma thread na ordem original dos dados e particionada por faixas de
+    // baldes do tamanho da L2 (ParticionamentoRadix). O encadeamento fica na maior carga do
+    // enunciado (10 por balde) e o rehashing a 70%, ambos bem maiores que a cache
+    public void executarComparacaoParticionamento() {
+        System.out.println("\n COMPARAÇÃO CONSTRUÇÃO NA ORDEM DOS DADOS x PARTICIONADA");
+        System.out.println("=========================================================");
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            System.out.printf("\n CENÁRIO: Dados=%,d\n", tamanhoDados);
+            
+            int baldes = tamanhoDados / 10;
+            System.out.printf("     • encadeamento (%,d baldes)...", baldes);
+            compararParticionamento(
+                () -> new TabelaHashEncadeamento(baldes, "multiplicacao"),
+                TabelaHashEncadeamento::inserirParticionado, dados);
+            
+            int posicoes = (int) (tamanhoDados / 0.7);
+            for (String tipoRehash : new String[] {"linear", "duplo"}) {
+                System.out.printf("     • multiplicacao + %s (%,d posições)...", tipoRehash, posicoes);
+                compararParticionamento(
+                    () -> new TabelaHashRehashing(posicoes, "multiplicacao", tipoRehash),
+                    TabelaHashRehashing::inserirParticionado, dados);
+            }
+        }
+    }
+    
+    private <T extends TabelaHash> void compararParticionamento(Supplier<T> fabrica,
+                                                                java.util.function.ToIntBiFunction<T, Registro[]> inserirParticionado,
+                                                                Registro[] dados) {
+        try {
+            // medirMemoriaUsada também coleta o lixo, para uma construção não pagar a outra
+            medirMemoriaUsada();
+            long inicio = System.nanoTime();
+            T naOrdem = fabrica.get();
+            for (Registro registro : dados) {
+                if (registro != null) naOrdem.inserir(registro);
+            }
+            long tempoNaOrdem = System.nanoTime() - inicio;
+            Metricas referencia = naOrdem.calcularMetricas();
+            naOrdem = null;
+            
+            medirMemoriaUsada();
+            inicio = System.nanoTime();
+            T particionada = fabrica.get();
+            inserirParticionado.applyAsInt(particionada, dados);
+            long tempoParticionada = System.nanoTime() - inicio;
+            Metricas metricas = particionada.calcularMetricas();
+            
+            System.out.printf("  na ordem %.2f ms, particionada %.2f ms (%.2fx), %,d x %,d colisões\n",
+                            tempoNaOrdem / 1_000_000.0, tempoParticionada / 1_000_000.0,
+                            (double) tempoNaOrdem / tempoParticionada,
+                            referencia.getColisoes(), metricas.getColisoes());
+                            
+        } catch (Exception e) {
+            System.out.printf("  Erro\n");
+        }
+    }
+    
+    // Buscas concentradas (Zipf 0,99, como o YCSB) no encadeamento com 10 por balde. A
+    // primeira metade das buscas é cronometrada e já organiza as listas; na segunda,
+    // cada busca soma antes as comparações que vai fazer
+    public void executarComparacaoAutoOrganizacao() {
+        System.out.println("\n COMPARAÇÃO LISTAS AUTO-ORGANIZÁVEIS (BUSCAS ZIPF)");
+        System.out.println("===================================================");
+        
+        String[] politicas = {"nenhuma", "mover_frente", "transpor", "frequencia"};
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            // Os populares são sorteados entre os registros de fato carregados, sem as posições nulas
+            Registro[] registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+            if (registros.length < 2) {
+                System.out.println("     Dados insuficientes, pulando...");
+                continue;
+            }
+            
+            int baldes = Math.max(1, registros.length / 10);
+            int[] buscas = GeradorDados.gerarBuscasZipf(registros, registros.length, 0.99, 54321L);
+            int metade = buscas.length / 2;
+            System.out.printf("\n CENÁRIO: Dados=%,d, Baldes=%,d\n", registros.length, baldes);
+            
+            for (String politica : politicas) {
+                System.out.printf("     • %s...", politica);
+                try {
+                    TabelaHashEncadeamento tabela = new TabelaHashEncadeamento(baldes, "multiplicacao", politica);
+                    for (Registro registro : registros) {
+                        tabela.inserir(registro);
+                    }
+                    
+                    long inicio = System.nanoTime();
+                    for (int i = 0; i < metade; i++) {
+                        tabela.buscar(buscas[i]);
+                    }
+                    long tempo = System.nanoTime() - inicio;
+                    
+                    long comparacoes = 0;
+                    for (int i = metade; i < buscas.length; i++) {
+                        comparacoes += tabela.comparacoesParaBuscar(buscas[i]);
+                        tabela.buscar(buscas[i]);
+                    }
+                    
+                    System.out.printf("  %.1f ns/busca, %.2f comparações por busca (uniforme: %.2f)\n",
+                                    (double) tempo / metade, (double) comparacoes / (buscas.length - metade),
+                                    tabela.calcularMetricas().getComparacoesMediaBusca());
+                } catch (Exception e) {
+                    System.out.printf("  Erro\n");
+                }
+            }
+        }
+    }
+    
+    // Estresse da tabela concorrente: escritores inserem fatias disjuntas dos dados enquanto
+    // leitores exigem achar tudo que um escritor já confirmou; depois metade sai, com os
+    // leitores exigindo achar a outra metade. Ao final, cada código tem de estar presente
+    // exatamente quando sobrou alguma ocorrência dele
+    public void executarEstresseConcorrente() {
+        System.out.println("\n ESTRESSE DO ENCADEAMENTO CONCORRENTE");
+        System.out.println("======================================");
+        
+        int escritores = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int leitores = escritores;
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            Registro[] registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+            int total = registros.length;
+            if (total < 2) {
+                System.out.println("     Dados insuficientes, pulando...");
+                continue;
+            }
+            System.out.printf("\n CENÁRIO: Dados=%,d | Escritores=%d | Leitores=%d\n", total, escritores, leitores);
+            TabelaHashEncadeamentoConcorrente tabela = new TabelaHashEncadeamentoConcorrente(total / 2, "multiplicacao");
+            java.util.concurrent.atomic.AtomicIntegerArray progresso = new java.util.concurrent.atomic.AtomicIntegerArray(escritores);
+            java.util.concurrent.atomic.AtomicInteger falhas = new java.util.concurrent.atomic.AtomicInteger();
+            
+            long inicio = System.nanoTime();
+            long leituras = executarComLeitores(escritores, leitores, escritor -> {
+                int fim = (int) ((long) (escritor + 1) * total / escritores);
+                for (int i = (int) ((long) escritor * total / escritores); i < fim; i++) {
+                    tabela.inserir(registros[i]);
+                    progresso.lazySet(escritor, i + 1);
+                }
+            }, (aleatorio, leitor) -> {
+                int escritor = aleatorio.nextInt(escritores);
+                int primeiro = (int) ((long) escritor * total / escritores);
+                int confirmados = progresso.get(escritor) - primeiro;
+                if (confirmados > 0 && !tabela.contem(registros[primeiro + aleatorio.nextInt(confirmados)].getCodigoInt())) {
+                    falhas.incrementAndGet();
+                }
+            });
+            long tempo = System.nanoTime() - inicio;
+            
+            int ausentes = 0;
+            for (Registro registro : registros) {
+                if (!tabela.contem(registro.getCodigoInt())) ausentes++;
+            }
+            System.out.printf("     • inserção: %.2f ms, %,d leituras concorrentes, %d falhas, %d ausentes, %,d elementos (esperado %,d), %,d no stream\n",
+                            tempo / 1_000_000.0, leituras, falhas.get(), ausentes,
+                            tabela.getElementosInseridos(), total, tabela.stream().count());
+            
+            // Remove as posições pares; códigos repetidos continuam enquanto restar ocorrência ímpar
+            falhas.set(0);
+            inicio = System.nanoTime();
+            leituras = executarComLeitores(escritores, leitores, escritor -> {
+                int fim = (int) ((long) (escritor + 1) * total / escritores);
+                for (int i = (int) ((long) escritor * total / escritores); i < fim; i++) {
+                    if (i % 2 == 0 && !tabela.remover(registros[i].getCodigoInt())) falhas.incrementAndGet();
+                }
+            }, (aleatorio, leitor) -> {
+                int impar = aleatorio.nextInt(total / 2) * 2 + 1;
+                if (!tabela.contem(registros[impar].getCodigoInt())) falhas.incrementAndGet();
+            });
+            tempo = System.nanoTime() - inicio;
+            
+            java.util.Map<Integer, Integer> restantes = new java.util.HashMap<>();
+            for (int i = 0; i < total; i++) {
+                restantes.merge(registros[i].getCodigoInt(), i % 2 == 0 ? 0 : 1, Integer::sum);
+            }
+            int divergentes = 0;
+            for (java.util.Map.Entry<Integer, Integer> entrada : restantes.entrySet()) {
+                if (tabela.contem(entrada.getKey()) != (entrada.getValue() > 0)) divergentes++;
+            }
+            System.out.printf("     • remoção: %.2f ms, %,d leituras concorrentes, %d falhas, %d divergentes, %,d elementos (esperado %,d)\n",
+                            tempo / 1_000_000.0, leituras, falhas.get(), divergentes,
+                            tabela.getElementosInseridos(), total / 2);
+        }
+    }
+    
+    // Vazão da tabela sem travas contra a TabelaHashPrimitiva atrás de uma trava única, com
+    // 1, 2, 4, 8 e todas as threads da máquina. Cada thread insere sua fatia dos dados numa
+    // tabela vazia e depois busca códigos sorteados entre eles
+    public void executarEscalabilidadeLivreDeTravas() {
+        System.out.println("\n ESCALABILIDADE: SEM TRAVAS (CAS) x TRAVA ÚNICA");
+        System.out.println("================================================");
+        
+        java.util.TreeSet<Integer> quantidadesThreads = new java.util.TreeSet<>(java.util.Arrays.asList(
+            1, 2, 4, 8, Runtime.getRuntime().availableProcessors()));
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            Registro[] registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+            int total = registros.length;
+            int posicoes = (int) (total / 0.7);
+            System.out.printf("\n CENÁRIO: Dados=%,d | Posições=%,d\n", total, posicoes);
+            
+            for (String tipoRehash : new String[] {"linear", "duplo"}) {
+                for (int threads : quantidadesThreads) {
+                    medirVazao(String.format("sem travas, %s", tipoRehash), threads, registros,
+                        () -> new TabelaHashPrimitivaConcorrente(posicoes, "multiplicacao", tipoRehash));
+                    medirVazao(String.format("trava única, %s", tipoRehash), threads, registros,
+                        () -> new TabelaHashSincronizada(new TabelaHashPrimitiva(posicoes, "multiplicacao", tipoRehash)));
+                }
+            }
+        }
+    }
+    
+    private void medirVazao(String nome, int threads, Registro[] registros, Supplier<TabelaHash> fabrica) {
+        System.out.printf("     • %-22s %2d thread(s)...", nome, threads);
+        try {
+            TabelaHash tabela = fabrica.get();
+            int total = registros.length;
+            
+            long tempoInsercao = executarEmThreads(threads, thread -> {
+                int fim = (int) ((long) (thread + 1) * total / threads);
+                for (int i = (int) ((long) thread * total / threads); i < fim; i++) {
+                    tabela.inserir(registros[i]);
+                }
+            });
+            
+            java.util.concurrent.atomic.LongAdder ausentes = new java.util.concurrent.atomic.LongAdder();
+            int buscasPorThread = total / threads;
+            long tempoBusca = executarEmThreads(threads, thread -> {
+                java.util.Random aleatorio = new java.util.Random(thread);
+                for (int i = 0; i < buscasPorThread; i++) {
+                    if (!tabela.contem(registros[aleatorio.nextInt(total)].getCodigoInt())) ausentes.increment();
+                }
+            });
+            
+            System.out.printf("  inserção %,.0f ops/s, busca %,.0f ops/s, %,d elementos, %d ausentes\n",
+                            total * 1e9 / tempoInsercao, (double) buscasPorThread * threads * 1e9 / tempoBusca,
+                            tabela.getElementosInseridos(), ausentes.sum());
+        } catch (Exception e) {
+            System.out.printf("  Erro\n");
+        }
+    }
+    
+    // Solta todas as threads juntas e devolve o tempo até a última terminar
+    static long executarEmThreads(int threads, java.util.function.IntConsumer corpo) {
+        java.util.concurrent.CountDownLatch largada = new java.util.concurrent.CountDownLatch(1);
+        Thread[] trabalhadores = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            trabalhadores[i] = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                corpo.accept(thread);
+            });
+            trabalhadores[i].start();
+        }
+        
+        long inicio = System.nanoTime();
+        largada.countDown();
+        try {
+            for (Thread trabalhador : trabalhadores) {
+                trabalhador.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        return System.nanoTime() - inicio;
+    }
+    
+    // Latência de busca enquanto escritores carregam os dados numa tabela que começa com
+    // 1.024 baldes e dobra várias vezes. Leitores buscam códigos já confirmados e cronometram
+    // em média uma busca a cada AMOSTRAGEM_LATENCIA; as amostras são separadas pelo tamanho da tabela
+    // no início da busca. A referência é o rehashing redimensionável atrás de uma trava única
+    public void executarLatenciaDuranteCrescimento() {
+        System.out.println("\n LATÊNCIA DE BUSCA DURANTE O CRESCIMENTO CONCORRENTE");
+        System.out.println("====================================================");
+        
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        int escritores = Math.max(1, nucleos / 2);
+        int leitores = Math.max(1, nucleos - escritores);
+        
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            Registro[] dados = carregarDadosConformeEnunciado(tamanhoDados);
+            if (dados == null || dados.length == 0) {
+                System.out.println("     Dados não disponíveis, pulando...");
+                continue;
+            }
+            
+            Registro[] registros = java.util.Arrays.stream(dados).filter(java.util.Objects::nonNull).toArray(Registro[]::new);
+            System.out.printf("\n CENÁRIO: Dados=%,d | Escritores=%d | Leitores=%d\n", registros.length, escritores, leitores);
+            
+            System.out.println("     • encadeamento concorrente redimensionável:");
+            medirLatenciaDuranteCrescimento(new TabelaHashConcorrenteRedimensionavel(TAMANHO_INICIAL_CRESCIMENTO, "multiplicacao"),
+                                            registros, escritores, leitores);
+            System.out.println("     • rehashing linear redimensionável, trava única:");
+            medirLatenciaDuranteCrescimento(new TabelaHashSincronizada(
+                new TabelaHashRehashing(TAMANHO_INICIAL_CRESCIMENTO, "multiplicacao", "linear", true)),
+                registros, escritores, leitores);
+        }
+    }
+    
+    private void medirLatenciaDuranteCrescimento(TabelaHash tabela, Registro[] registros, int escritores, int leitores) {
+        int total = registros.length;
+        java.util.concurrent.atomic.AtomicIntegerArray progresso = new java.util.concurrent.atomic.AtomicIntegerArray(escritores);
+        java.util.concurrent.atomic.AtomicInteger falhas = new java.util.concurrent.atomic.AtomicInteger();
+        // Por leitor, uma série de amostras por dobra da tabela (índice = log2 do crescimento)
+        AmostrasLatencia[][] amostras = new AmostrasLatencia[leitores][32];
+        
+        long inicio = System.nanoTime();
+        executarComLeitores(escritores, leitores, escritor -> {
+            int fim = (int) ((long) (escritor + 1) * total / escritores);
+            for (int i = (int) ((long) escritor * total / escritores); i < fim; i++) {
+                tabela.inserir(registros[i]);
+                progresso.lazySet(escritor, i + 1);
+            }
+        }, (aleatorio, leitor) -> {
+            int escritor = aleatorio.nextInt(escritores);
+            int primeiro = (int) ((long) escritor * total / escritores);
+            int confirmados = progresso.get(escritor) - primeiro;
+            if (confirmados <= 0) {
+                return;
+            }
+            int codigo = registros[primeiro + aleatorio.nextInt(confirmados)].getCodigoInt();
+            
+            if (aleatorio.nextInt(AMOSTRAGEM_LATENCIA) != 0) {
+                if (!tabela.contem(codigo)) falhas.incrementAndGet();
+                return;
+            }
+            int dobra = 31 - Integer.numberOfLeadingZeros(Math.max(1, tabela.getTamanho() / TAMANHO_INICIAL_CRESCIMENTO));
+            long antes = System.nanoTime();
+            boolean encontrado = tabela.contem(codigo);
+            long latencia = System.nanoTime() - antes;
+            if (!encontrado) falhas.incrementAndGet();
+            
+            if (amostras[leitor][dobra] == null) amostras[leitor][dobra] = new AmostrasLatencia();
+            amostras[leitor][dobra].adicionar(latencia);
+        });
+        long tempo = System.nanoTime() - inicio;
+        
+        for (int dobra = 0; dobra < 32; dobra++) {
+            AmostrasLatencia juntas = new AmostrasLatencia();
+            for (AmostrasLatencia[] series : amostras) {
+                if (series[dobra] != null) juntas.adicionar(series[dobra]);
+            }
+            if (juntas.quantidade == 0) {
+                continue;
+            }
+            long[] valores = java.util.Arrays.copyOf(juntas.valores, juntas.quantidade);
+            System.out.printf("       %,12d baldes: %,9d amostras, p50 %,6d ns, p99 %,7d ns, máx %,10d ns\n",
+                            (long) TAMANHO_INICIAL_CRESCIMENTO << dobra, valores.length,
+                            percentil(valores, 0.50), percentil(valores, 0.99), percentil(valores, 1.0));
+        }
+        System.out.printf("       carga em %.2f ms, %,d elementos, %,d baldes ao final, %d buscas sem resultado\n",
+                        tempo / 1_000_000.0, tabela.getElementosInseridos(), tabela.getTamanho(), falhas.get());
+    }
+    
+    private static final class AmostrasLatencia {
+        long[] valores = new long[1024];
+        int quantidade;
+        
+        void adicionar(long valor) {
+            if (quantidade == valores.length) {
+                valores = java.util.Arrays.copyOf(valores, quantidade * 2);
+            }
+            valores[quantidade++] = valor;
+        }
+        
+        void adicionar(AmostrasLatencia outras) {
+            for (int i = 0; i < outras.quantidade; i++) {
+                adicionar(outras.valores[i]);
+            }
+        }
+    }
+    
+    // Roda cada escritor numa thread e os leitores em laço até todos os escritores terminarem;
+    // devolve quantas leituras foram feitas
+    private static long executarComLeitores(int escritores, int leitores,
+                                            java.util.function.IntConsumer escrita,
+                                            java.util.function.ObjIntConsumer<java.util.Random> leitura) {
+        java.util.concurrent.CountDownLatch terminados = new java.util.concurrent.CountDownLatch(escritores);
+        java.util.concurrent.atomic.LongAdder leituras = new java.util.concurrent.atomic.LongAdder();
+        Thread[] threads = new Thread[escritores + leitores];
+        
+        for (int i = 0; i < escritores; i++) {
+            int escritor = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    escrita.accept(escritor);
+                } finally {
+                    terminados.countDown();
+                }
+            });
+        }
+        for (int i = 0; i < leitores; i++) {
+            int leitor = i;
+            threads[escritores + i] = new Thread(() -> {
+                java.util.Random aleatorio = new java.util.Random(leitor);
+                while (terminados.getCount() > 0) {
+                    leitura.accept(aleatorio, leitor);
+                    leituras.increment();
+                }
+            });
+        }
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        return leituras.sum();
+    }
+    
+    private static int contarDistintos(int[] codigos, int total) {
+        int[] ordenados = java.util.Arrays.copyOf(codigos, total);
+        java.util.Arrays.sort(ordenados);
+        int distintos = total > 0 ? 1 : 0;
+        for (int i = 1; i < total; i++) {
+            if (ordenados[i] != ordenados[i - 1]) distintos++;
+        }
+        return distintos;
+    }
+    
+    private void imprimirGanhoLote(Metricas umAUm, Metricas emLote) {
+        if (umAUm != null && emLote != null) {
+            System.out.printf("       construção %.2fx mais rápida, %,d -> %,d posições ao final\n",
+                            (double) umAUm.getTempoInsercao() / emLote.getTempoInsercao(),
+                            umAUm.getTamanhoTabela(), emLote.getTamanhoTabela());
+        }
+    }
+    
+    private Registro[] carregarDadosConformeEnunciado(int tamanho) {
+        String arquivo = "dados/conjunto_" + tamanho + ".txt";
+        try {
+            return GeradorDados.carregarDados(arquivo);
+        } catch (IOException e) {
+            System.out.println("    Erro ao carregar " + arquivo + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private Metricas testarEncadeamento(int tamanhoTabela, Registro[] dados, String funcaoHash) {
+        System.out.printf("     • %s...", funcaoHash);
+        Metricas metricas = testarTabela(() -> new TabelaHashEncadeamento(tamanhoTabela, funcaoHash), dados);
+        if (metricas != null && metricas.getBaldesOrdenados() > 0) {
+            System.out.printf("       %,d baldes ordenados (listas acima de 8), %.2f comparações por busca\n",
+                            metricas.getBaldesOrdenados(), metricas.getComparacoesMediaBusca());
+        }
+        return metricas;
+    }
+    
+    private Metricas testarEncadeamentoPrimitivo(int tamanhoTabela, Registro[] dados, String funcaoHash) {
+        System.out.printf("     • %s (índices)...", funcaoHash);
+        return testarTabela(() -> new TabelaHashEncadeamentoPrimitivo(tamanhoTabela, funcaoHash), dados);
+    }
+    
+    private Metricas testarEncadeamentoLinear(int tamanhoTabela, Registro[] dados, String funcaoHash) {
+        System.out.printf("     • %s (hashing linear)...", funcaoHash);
+        Metricas metricas = testarTabela(() -> new TabelaHashEncadeamentoLinear(tamanhoTabela, funcaoHash), dados);
+        if (metricas != null) {
+            System.out.printf("       %,d baldes ao final, maior lista %d\n", 
+                            metricas.getTamanhoTabela(), metricas.getMaiorLista());
+        }
+        return metricas;
+    }
+    
+    private void compararEncadeamentos(Metricas comNos, Metricas comIndices) {
+        if (comNos == null || comIndices == null) {
+            return;
+        }
+        
+        boolean identicas = comNos.getColisoes() == comIndices.getColisoes()
+            && comNos.getMaiorLista() == comIndices.getMaiorLista()
+            && comNos.getSegundaMaiorLista() == comIndices.getSegundaMaiorLista()
+            && comNos.getTerceiraMaiorLista() == comIndices.getTerceiraMaiorLista();
+        
+        System.out.printf("       Índices x nós: memória %+.1f MB, inserção %+.2f ms, busca %+.2f ms, métricas %s\n",
+                        (comIndices.getMemoriaBytes() - comNos.getMemoriaBytes()) / (1024.0 * 1024.0),
+                        (comIndices.getTempoInsercao() - comNos.getTempoInsercao()) / 1_000_000.0,
+                        (comIndices.getTempoBusca() - comNos.getTempoBusca()) / 1_000_000.0,
+                        identicas ? "idênticas" : "DIFERENTES");
+    }
+    
     private void testarRehashing(int tamanhoTabela, Registro[] dados, String funcaoHash, String tipoRehash) {
         System.out.printf("     • %s + %s...", funcaoHash, tipoRehash);
-        
+        testarTabela(() -> new TabelaHashRehashing(tamanhoTabela, funcaoHash, tipoRehash), dados);
+    }
+    
+    private void testarRehashingRedimensionavel(int tamanhoTabela, Registro[] dados, String funcaoHash, String tipoRehash) {
+        System.out.printf("     • %s + %s (redimensionável a partir de %,d)...", funcaoHash, tipoRehash, tamanhoTabela);
+        if (funcaoHash.equals("dobramento") && tipoRehash.equals("linear") && dados.length > LIMITE_DOBRAMENTO_LINEAR) {
+            System.out.println(" pulando (dobramento com sondagem linear fica quadrático)");
+            return;
+        }
+        testarTabela(() -> new TabelaHashRehashing(tamanhoTabela, funcaoHash, tipoRehash, true), dados, true);
+    }
+    
+    private void testarHopscotch(int tamanhoTabela, Registro[] dados, String funcaoHash) {
+        System.out.printf("     • %s + hopscotch...", funcaoHash);
+        testarTabela(() -> new TabelaHashHopscotch(tamanhoTabela, funcaoHash), dados);
+    }
+    
+    private void imprimirDeslocamentos(Metricas metricas) {
+        if (metricas != null) {
+            System.out.printf("       deslocamento máximo %d, médio %.2f\n", 
+                            metricas.getDeslocamentoMaximo(), metricas.getDeslocamentoMedio());
+        }
+    }
+    
+    private void testarPrimitiva(int tamanhoTabela, Registro[] dados, String funcaoHash, String tipoRehash) {
+        System.out.printf("     • %s + %s (int[])...", funcaoHash, tipoRehash);
+        testarTabela(() -> new TabelaHashPrimitiva(tamanhoTabela, funcaoHash, tipoRehash), dados);
+    }
+    
+    private Metricas testarTabela(Supplier<TabelaHash> fabrica, Registro[] dados) {
+        return testarTabela(fabrica, dados, false, false);
+    }
+    
+    private Metricas testarTabela(Supplier<TabelaHash> fabrica, Registro[] dados, boolean medirLatencia) {
+        return testarTabela(fabrica, dados, medirLatencia, false);
+    }
+    
+    // Roda inserção e busca completas em uma tabela nova e registra as métricas.
+    // Com medirLatencia, cada inserção é cronometrada para obter o p99;
+    // com emLote, os dados entram de uma vez por inserirLote
+    private Metricas testarTabela(Supplier<TabelaHash> fabrica, Registro[] dados, boolean medirLatencia, boolean emLote) {
         try {
-            TabelaHashRehashing tabela = new TabelaHashRehashing(tamanhoTabela, funcaoHash, tipoRehash);
+            long memoriaAntes = medirMemoriaUsada();
+            TabelaHash tabela = fabrica.get();
+            
+            // Só as inserções que rodaram entram no p99; linhas nulas não deixam zeros
+            long[] latencias = medirLatencia ? new long[dados.length] : null;
+            int medidas = 0;
             
             long inicio = System.nanoTime();
             int inseridos = 0;
-            for (Registro registro : dados) {
-                if (registro != null && tabela.inserir(registro)) {
-                    inseridos++;
+            if (emLote) {
+                inseridos = tabela.inserirLote(dados);
+            } else if (medirLatencia) {
+                for (int i = 0; i < dados.length; i++) {
+                    if (dados[i] == null) continue;
+                    long antes = System.nanoTime();
+                    if (tabela.inserir(dados[i])) {
+                        inseridos++;
+                    }
+                    latencias[medidas++] = System.nanoTime() - antes;
+                }
+            } else {
+                for (Registro registro : dados) {
+                    if (registro != null && tabela.inserir(registro)) {
+                        inseridos++;
+                    }
                 }
             }
             long fim = System.nanoTime();
             
             if (inseridos == 0) {
                 System.out.printf("  Falhou\n");
-                return;
+                return null;
             }
             
+            long memoriaDepois = medirMemoriaUsada();
+            
+            // Busca pelo código inteiro: nenhuma String é lida nem criada
+            long alocadosAntes = bytesAlocadosNaThread();
             long inicioBusca = System.nanoTime();
+            int buscas = 0;
             for (Registro registro : dados) {
-                if (registro != null) tabela.buscar(registro.getCodigo());
+                if (registro != null) {
+                    tabela.contem(registro.getCodigoInt());
+                    buscas++;
+                }
             }
             long fimBusca = System.nanoTime();
+            long alocadosDepois = bytesAlocadosNaThread();
+            
+            int[] codigos = new int[buscas];
+            int posicao = 0;
+            for (Registro registro : dados) {
+                if (registro != null) codigos[posicao++] = registro.getCodigoInt();
+            }
             
             Metricas metricas = tabela.calcularMetricas();
             metricas.setTempoInsercao(fim - inicio);
             metricas.setTempoBusca(fimBusca - inicioBusca);
+            metricas.setTempoBuscaLote8(medirBuscaLote(tabela, codigos, 8));
+            metricas.setTempoBuscaLote64(medirBuscaLote(tabela, codigos, 64));
+            metricas.setTempoBuscaLote1024(medirBuscaLote(tabela, codigos, 1024));
+            metricas.setMemoriaBytes(memoriaDepois - memoriaAntes);
+            if (alocadosAntes >= 0 && buscas > 0) {
+                metricas.setBytesAlocadosPorBusca((double) (alocadosDepois - alocadosAntes) / buscas);
+            }
+            if (medirLatencia) {
+                metricas.setLatenciaInsercaoP99(percentil(java.util.Arrays.copyOf(latencias, medidas), 0.99));
+            }
             
             if (totalResultados < resultados.length) {
                 resultados[totalResultados++] = new ResultadoTeste(metricas, inseridos);
             }
             
             double percentual = (inseridos * 100.0) / dados.length;
-            System.out.printf("  %d colisões, %.1f%%, %.2f ms\n", 
+            System.out.printf("  %d colisões, %.1f%%, %.2f ms, %.1f MB, busca %.2f ms (%.1f B/busca), lotes 8/64/1024 %.2f/%.2f/%.2f ms", 
                             metricas.getColisoes(), percentual,
-                            metricas.getTempoInsercao() / 1_000_000.0);
+                            metricas.getTempoInsercao() / 1_000_000.0,
+                            metricas.getMemoriaBytes() / (1024.0 * 1024.0),
+                            metricas.getTempoBusca() / 1_000_000.0, metricas.getBytesAlocadosPorBusca(),
+                            metricas.getTempoBuscaLote8() / 1_000_000.0,
+                            metricas.getTempoBuscaLote64() / 1_000_000.0,
+                            metricas.getTempoBuscaLote1024() / 1_000_000.0);
+            if (medirLatencia) {
+                System.out.printf(", p99 %d ns, tabela final %,d", 
+                                metricas.getLatenciaInsercaoP99(), metricas.getTamanhoTabela());
+            }
+            System.out.println();
+            return metricas;
             
         } catch (Exception e) {
             System.out.printf("  Erro\n");
+            return null;
+        }
+    }
+    
+    // Os mesmos códigos da busca simples, entregues à tabela em lotes do tamanho pedido
+    private static long medirBuscaLote(TabelaHash tabela, int[] codigos, int tamanhoLote) {
+        int[] lote = new int[tamanhoLote];
+        boolean[] presentes = new boolean[tamanhoLote];
+        
+        long inicio = System.nanoTime();
+        for (int base = 0; base + tamanhoLote <= codigos.length; base += tamanhoLote) {
+            System.arraycopy(codigos, base, lote, 0, tamanhoLote);
+            tabela.contemLote(lote, presentes);
+        }
+        int resto = codigos.length % tamanhoLote;
+        if (resto > 0) {
+            int[] ultimo = java.util.Arrays.copyOfRange(codigos, codigos.length - resto, codigos.length);
+            tabela.contemLote(ultimo, new boolean[resto]);
+        }
+        return System.nanoTime() - inicio;
+    }
+    
+    private static long percentil(long[] valores, double p) {
+        long[] ordenados = valores.clone();
+        java.util.Arrays.sort(ordenados);
+        int posicao = (int) Math.ceil(p * ordenados.length) - 1;
+        return ordenados[Math.max(0, Math.min(posicao, ordenados.length - 1))];
+    }
+    
+    // Bytes já alocados pela thread atual, ou -1 se a JVM não oferece a medida
+    private static long bytesAlocadosNaThread() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+    
+    private static long medirMemoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
         }
+        return runtime.totalMemory() - runtime.freeMemory();
     }
     
     private void exportarResultadosCSV() throws IOException {
@@ -207,17 +1292,24 @@ public class ExecutorTestes {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter("resultados/resultados.csv"))) {
             writer.write("TipoTabela,FuncaoHash,TamanhoTabela,ElementosDados,FatorCarga,Colisoes,");
             writer.write("TempoInsercaoNs,TempoBuscaNs,MaiorLista,SegundaMaiorLista,TerceiraMaiorLista,");
-            writer.write("MenorGap,MaiorGap,MediaGaps\n");
+            writer.write("MenorGap,MaiorGap,MediaGaps,MemoriaBytes,LatenciaInsercaoP99Ns,");
+            writer.write("DeslocamentoMaximo,DeslocamentoMedio,Expulsoes,UsoStash,ComparacoesMediaBusca,BytesAlocadosPorBusca,TempoBuscaLote8Ns,TempoBuscaLote64Ns,TempoBuscaLote1024Ns,");
+            writer.write("MarcadoresRemocao,SondagemMediaMalSucedida,BaldesOrdenados\n");
             
             for (int i = 0; i < totalResultados; i++) {
                 ResultadoTeste resultado = resultados[i];
                 Metricas m = resultado.getMetricas();
-                writer.write(String.format("%s,%s,%d,%d,%.4f,%d,%d,%d,%d,%d,%d,%d,%d,%.2f\n",
+                writer.write(String.format("%s,%s,%d,%d,%.4f,%d,%d,%d,%d,%d,%d,%d,%d,%.2f,%d,%d,%d,%.2f,%d,%d,%.2f,%.2f,%d,%d,%d,%d,%.2f,%d\n",
                     m.getTipoTabela(), m.getFuncaoHash(), m.getTamanhoTabela(),
                     resultado.getTamanhoDados(), m.getFatorCarga(), m.getColisoes(),
                     m.getTempoInsercao(), m.getTempoBusca(), m.getMaiorLista(),
                     m.getSegundaMaiorLista(), m.getTerceiraMaiorLista(),
-                    m.getMenorGap(), m.getMaiorGap(), m.getMediaGaps()
+                    m.getMenorGap(), m.getMaiorGap(), m.getMediaGaps(), m.getMemoriaBytes(),
+                    m.getLatenciaInsercaoP99(), m.getDeslocamentoMaximo(), m.getDeslocamentoMedio(),
+                    m.getExpulsoes(), m.getUsoStash(), m.getComparacoesMediaBusca(),
+                    m.getBytesAlocadosPorBusca(), m.getTempoBuscaLote8(), m.getTempoBuscaLote64(),
+                    m.getTempoBuscaLote1024(), m.getMarcadoresRemocao(), m.getSondagemMediaMalSucedida(),
+                    m.getBaldesOrdenados()
                 ));
             }
         }
@@ -244,7 +1336,7 @@ public class ExecutorTestes {
         
         for (int i = 0; i < totalResultados; i++) {
             Metricas m = resultados[i].getMetricas();
-            if (m.getTipoTabela().equals("Encadeamento")) {
+            if (m.getTipoTabela().startsWith("Encadeamento")) {
                 encadeamentos++;
                 tempoEncadeamento += m.getTempoInsercao();
                 colisoesEncadeamento += m.getColisoes();
@@ -273,6 +1365,6 @@ public class ExecutorTestes {
         System.out.println("    Tabelas: 1.000, 10.000, 100.000");
         System.out.println("    Dados: 100.000, 1.000.000, 10.000.000");
         System.out.println("   Funções: Multiplicação, Dobramento, XOR Shift");
-        System.out.println("    Estratégias: Encadeamento, Rehashing (Linear, Quadrático, Duplo)");
+        System.out.println("    Estratégias: Encadeamento (nós, índices e hashing linear), Rehashing (Linear, Quadrático, Duplo), Primitiva (int[]), Hopscotch");
     }
 }
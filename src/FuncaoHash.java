@@ -0,0 +1,34 @@
+// Escolhida uma vez na construção da tabela; indice() não aloca nada
+public interface FuncaoHash {
+    int indice(int chave, int tamanho);
+    
+    String getNome();
+    
+    static FuncaoHash porNome(String nome) {
+        switch (nome) {
+            case "multiplicacao":
+                return HashMultiplicacao.INSTANCIA;
+            case "dobramento":
+                return HashDobramento.INSTANCIA;
+            case "xorshift":
+                return HashXorShift.INSTANCIA;
+            case "fibonacci":
+                return HashFibonacci.INSTANCIA;
+            case "murmur3":
+                return HashMurmur3.INSTANCIA;
+            case "wyhash":
+                return HashWyhash.INSTANCIA;
+            default:
+                return HashMultiplicacao.INSTANCIA;
+        }
+    }
+    
+    // Leva um hash de 32 bits bem misturado para [0, tamanho) sem divisão:
+    // com tamanho potência de dois basta a máscara, senão multiplica e desloca (fastrange)
+    static int reduzir(int hash, int tamanho) {
+        if ((tamanho & (tamanho - 1)) == 0) {
+            return hash & (tamanho - 1);
+        }
+        return (int) (((hash & 0xFFFFFFFFL) * tamanho) >>> 32);
+    }
+}
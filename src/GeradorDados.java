@@ -10,15 +10,46 @@ public class GeradorDados {
         Registro[] dados = new Registro[quantidade];
         
         for (int i = 0; i < quantidade; i++) {
-            int numero = random.nextInt(1000000000);
-            String codigo = String.format("%09d", numero);
-            dados[i] = new Registro(codigo);
+            dados[i] = new Registro(random.nextInt(1000000000));
         }
         
         System.out.println(" Gerados " + dados.length + " registros válidos");
         return dados;
     }
     
+    // Sequência de buscas com popularidade Zipf: o k-ésimo código mais buscado aparece com
+    // probabilidade proporcional a 1/k^expoente. Quais códigos são os populares é sorteado,
+    // para que não coincidam com a ordem de inserção
+    public static int[] gerarBuscasZipf(Registro[] dados, int quantidade, double expoente, long seed) {
+        System.out.println(" Gerando " + quantidade + " buscas Zipf (expoente " + expoente + ")...");
+        Random random = new Random(seed);
+        
+        int[] populares = new int[dados.length];
+        for (int i = 0; i < dados.length; i++) {
+            populares[i] = dados[i].getCodigoInt();
+        }
+        for (int i = dados.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int troca = populares[i];
+            populares[i] = populares[j];
+            populares[j] = troca;
+        }
+        
+        double[] acumulada = new double[dados.length];
+        double soma = 0;
+        for (int k = 0; k < dados.length; k++) {
+            soma += 1.0 / Math.pow(k + 1, expoente);
+            acumulada[k] = soma;
+        }
+        
+        int[] buscas = new int[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            int posicao = java.util.Arrays.binarySearch(acumulada, random.nextDouble() * soma);
+            buscas[i] = populares[Math.min(posicao < 0 ? -posicao - 1 : posicao, dados.length - 1)];
+        }
+        return buscas;
+    }
+    
     public static void salvarDados(Registro[] dados, String arquivo) throws IOException {
         System.out.println(" Salvando em: " + arquivo);
         
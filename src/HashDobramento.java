@@ -0,0 +1,18 @@
+// Soma dos três grupos de 3 dígitos do código, sem formatar String
+public final class HashDobramento implements FuncaoHash {
+    public static final HashDobramento INSTANCIA = new HashDobramento();
+    
+    private HashDobramento() {
+    }
+    
+    @Override
+    public int indice(int chave, int tamanho) {
+        int soma = chave / 1000000 + (chave / 1000) % 1000 + chave % 1000;
+        return Math.abs(soma % tamanho);
+    }
+    
+    @Override
+    public String getNome() {
+        return "dobramento";
+    }
+}
@@ -0,0 +1,23 @@
+// Multiplicação por 2^32/φ; os bits bons ficam no alto do produto
+public final class HashFibonacci implements FuncaoHash {
+    public static final HashFibonacci INSTANCIA = new HashFibonacci();
+    
+    private static final int MULTIPLICADOR = 0x9E3779B9;
+    
+    private HashFibonacci() {
+    }
+    
+    @Override
+    public int indice(int chave, int tamanho) {
+        int produto = chave * MULTIPLICADOR;
+        if ((tamanho & (tamanho - 1)) == 0) {
+            return tamanho == 1 ? 0 : produto >>> (32 - Integer.numberOfTrailingZeros(tamanho));
+        }
+        return (int) (((produto & 0xFFFFFFFFL) * tamanho) >>> 32);
+    }
+    
+    @Override
+    public String getNome() {
+        return "fibonacci";
+    }
+}
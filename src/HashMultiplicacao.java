@@ -0,0 +1,21 @@
+// Método da multiplicação de Knuth, com a mesma conta em double de antes
+public final class HashMultiplicacao implements FuncaoHash {
+    public static final HashMultiplicacao INSTANCIA = new HashMultiplicacao();
+    
+    private static final double A = (Math.sqrt(5) - 1) / 2;
+    
+    private HashMultiplicacao() {
+    }
+    
+    @Override
+    public int indice(int chave, int tamanho) {
+        double valor = chave * A;
+        valor = valor - Math.floor(valor);
+        return (int) (tamanho * valor);
+    }
+    
+    @Override
+    public String getNome() {
+        return "multiplicacao";
+    }
+}
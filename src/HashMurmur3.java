@@ -0,0 +1,23 @@
+// Finalizador fmix32 do MurmurHash3: todo bit da entrada afeta todo bit da saída
+public final class HashMurmur3 implements FuncaoHash {
+    public static final HashMurmur3 INSTANCIA = new HashMurmur3();
+    
+    private HashMurmur3() {
+    }
+    
+    @Override
+    public int indice(int chave, int tamanho) {
+        int h = chave;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return FuncaoHash.reduzir(h, tamanho);
+    }
+    
+    @Override
+    public String getNome() {
+        return "murmur3";
+    }
+}
@@ -0,0 +1,22 @@
+// Mistura no estilo wyhash: produto 64x64 -> 128 bits com as duas metades combinadas
+public final class HashWyhash implements FuncaoHash {
+    public static final HashWyhash INSTANCIA = new HashWyhash();
+    
+    private static final long SEMENTE = 0xa0761d6478bd642fL;
+    private static final long PRIMO = 0xe7037ed1a0b428dbL;
+    
+    private HashWyhash() {
+    }
+    
+    @Override
+    public int indice(int chave, int tamanho) {
+        long a = (chave & 0xFFFFFFFFL) ^ SEMENTE;
+        long mistura = Math.multiplyHigh(a, PRIMO) ^ (a * PRIMO);
+        return FuncaoHash.reduzir((int) (mistura ^ (mistura >>> 32)), tamanho);
+    }
+    
+    @Override
+    public String getNome() {
+        return "wyhash";
+    }
+}
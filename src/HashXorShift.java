@@ -0,0 +1,19 @@
+public final class HashXorShift implements FuncaoHash {
+    public static final HashXorShift INSTANCIA = new HashXorShift();
+    
+    private HashXorShift() {
+    }
+    
+    @Override
+    public int indice(int chave, int tamanho) {
+        chave = chave ^ (chave >>> 16);
+        chave = chave ^ (chave << 8);
+        chave = chave ^ (chave >>> 4);
+        return Math.abs(chave % tamanho);
+    }
+    
+    @Override
+    public String getNome() {
+        return "xorshift";
+    }
+}
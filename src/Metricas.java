@@ -10,6 +10,20 @@ public class Metricas {
     private int menorGap;
     private int maiorGap;
     private double mediaGaps;
+    private long memoriaBytes;
+    private long latenciaInsercaoP99;
+    private int deslocamentoMaximo;
+    private double deslocamentoMedio;
+    private int expulsoes;
+    private int usoStash;
+    private double comparacoesMediaBusca;
+    private double bytesAlocadosPorBusca;
+    private long tempoBuscaLote8;
+    private long tempoBuscaLote64;
+    private long tempoBuscaLote1024;
+    private int marcadoresRemocao;
+    private double sondagemMediaMalSucedida;
+    private int baldesOrdenados;
     private String tipoTabela;
     private String funcaoHash;
     
@@ -51,6 +65,48 @@ public class Metricas {
     public double getMediaGaps() { return mediaGaps; }
     public void setMediaGaps(double mediaGaps) { this.mediaGaps = mediaGaps; }
     
+    public long getMemoriaBytes() { return memoriaBytes; }
+    public void setMemoriaBytes(long memoriaBytes) { this.memoriaBytes = memoriaBytes; }
+    
+    public long getLatenciaInsercaoP99() { return latenciaInsercaoP99; }
+    public void setLatenciaInsercaoP99(long latenciaInsercaoP99) { this.latenciaInsercaoP99 = latenciaInsercaoP99; }
+    
+    public int getDeslocamentoMaximo() { return deslocamentoMaximo; }
+    public void setDeslocamentoMaximo(int deslocamentoMaximo) { this.deslocamentoMaximo = deslocamentoMaximo; }
+    
+    public double getDeslocamentoMedio() { return deslocamentoMedio; }
+    public void setDeslocamentoMedio(double deslocamentoMedio) { this.deslocamentoMedio = deslocamentoMedio; }
+    
+    public int getExpulsoes() { return expulsoes; }
+    public void setExpulsoes(int expulsoes) { this.expulsoes = expulsoes; }
+    
+    public int getUsoStash() { return usoStash; }
+    public void setUsoStash(int usoStash) { this.usoStash = usoStash; }
+    
+    public double getComparacoesMediaBusca() { return comparacoesMediaBusca; }
+    public void setComparacoesMediaBusca(double comparacoesMediaBusca) { this.comparacoesMediaBusca = comparacoesMediaBusca; }
+    
+    public double getBytesAlocadosPorBusca() { return bytesAlocadosPorBusca; }
+    public void setBytesAlocadosPorBusca(double bytesAlocadosPorBusca) { this.bytesAlocadosPorBusca = bytesAlocadosPorBusca; }
+    
+    public long getTempoBuscaLote8() { return tempoBuscaLote8; }
+    public void setTempoBuscaLote8(long tempoBuscaLote8) { this.tempoBuscaLote8 = tempoBuscaLote8; }
+    
+    public long getTempoBuscaLote64() { return tempoBuscaLote64; }
+    public void setTempoBuscaLote64(long tempoBuscaLote64) { this.tempoBuscaLote64 = tempoBuscaLote64; }
+    
+    public long getTempoBuscaLote1024() { return tempoBuscaLote1024; }
+    public void setTempoBuscaLote1024(long tempoBuscaLote1024) { this.tempoBuscaLote1024 = tempoBuscaLote1024; }
+    
+    public int getMarcadoresRemocao() { return marcadoresRemocao; }
+    public void setMarcadoresRemocao(int marcadoresRemocao) { this.marcadoresRemocao = marcadoresRemocao; }
+    
+    public double getSondagemMediaMalSucedida() { return sondagemMediaMalSucedida; }
+    public void setSondagemMediaMalSucedida(double sondagemMediaMalSucedida) { this.sondagemMediaMalSucedida = sondagemMediaMalSucedida; }
+    
+    public int getBaldesOrdenados() { return baldesOrdenados; }
+    public void setBaldesOrdenados(int baldesOrdenados) { this.baldesOrdenados = baldesOrdenados; }
+    
     public String getTipoTabela() { return tipoTabela; }
     public String getFuncaoHash() { return funcaoHash; }
     public int getTamanhoTabela() { return tamanhoTabela; }
@@ -0,0 +1,53 @@
+import java.util.function.IntUnaryOperator;
+
+// Reordena um lote pelos bits altos do balde de destino, em partições cujos baldes cabem
+// na cache L2. Inserindo partição por partição, cada fase só toca uma faixa pequena da
+// tabela, em vez de um acesso aleatório à memória por registro. A distribuição é estável:
+// registros do mesmo balde mantêm a ordem relativa do lote
+public class ParticionamentoRadix {
+    // L2 típica por núcleo
+    private static final int BYTES_CACHE = 256 * 1024;
+    // Mais partições que isso e a própria distribuição passa a errar a cache e a TLB
+    private static final int MAX_PARTICOES = 1024;
+    
+    private ParticionamentoRadix() {
+    }
+    
+    // Quantidade de partições (potência de 2) para que cada faixa de baldes ocupe meia L2
+    public static int calcularParticoes(int tamanho, long bytesPorBalde) {
+        long bytesTabela = tamanho * bytesPorBalde;
+        int particoes = 1;
+        while (particoes < MAX_PARTICOES && bytesTabela / particoes > BYTES_CACHE / 2) {
+            particoes <<= 1;
+        }
+        return particoes;
+    }
+    
+    // Devolve os registros não nulos agrupados por faixa de baldes. Com tamanho
+    // não potência de 2, os "bits altos" são os de balde * particoes / tamanho
+    public static Registro[] particionar(Registro[] registros, IntUnaryOperator balde, int tamanho, int particoes) {
+        int[] faixas = new int[registros.length];
+        int[] inicios = new int[particoes + 1];
+        
+        for (int i = 0; i < registros.length; i++) {
+            if (registros[i] == null) {
+                faixas[i] = -1;
+                continue;
+            }
+            faixas[i] = (int) ((long) balde.applyAsInt(registros[i].getCodigoInt()) * particoes / tamanho);
+            inicios[faixas[i] + 1]++;
+        }
+        
+        for (int faixa = 0; faixa < particoes; faixa++) {
+            inicios[faixa + 1] += inicios[faixa];
+        }
+        
+        Registro[] ordenados = new Registro[inicios[particoes]];
+        for (int i = 0; i < registros.length; i++) {
+            if (faixas[i] >= 0) {
+                ordenados[inicios[faixas[i]]++] = registros[i];
+            }
+        }
+        return ordenados;
+    }
+}
@@ -1,19 +1,45 @@
 public class Registro {
-    private String codigo;
+    private static final int MAIOR_CODIGO = 999999999;
+    
+    // O código numérico é a representação principal; o texto de 9 dígitos
+    // só é montado quando alguém pede (gravação em arquivo, impressão)
+    private final int codigo;
+    private String codigoTexto;
+    
+    public Registro(int codigo) {
+        if (codigo < 0 || codigo > MAIOR_CODIGO) {
+            throw new IllegalArgumentException("Código deve ter exatamente 9 dígitos");
+        }
+        this.codigo = codigo;
+    }
     
     public Registro(String codigo) {
         if (codigo == null || codigo.length() != 9) {
             throw new IllegalArgumentException("Código deve ter exatamente 9 dígitos");
         }
-        this.codigo = codigo;
+        
+        int valor = 0;
+        for (int i = 0; i < 9; i++) {
+            char c = codigo.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Código deve ter exatamente 9 dígitos");
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        
+        this.codigo = valor;
+        this.codigoTexto = codigo;
     }
     
-    public String getCodigo() { 
-        return codigo; 
+    public String getCodigo() {
+        if (codigoTexto == null) {
+            codigoTexto = String.format("%09d", codigo);
+        }
+        return codigoTexto;
     }
     
     public int getCodigoInt() {
-        return Integer.parseInt(codigo);
+        return codigo;
     }
     
     @Override
@@ -21,16 +47,16 @@ public class Registro {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Registro registro = (Registro) obj;
-        return codigo.equals(registro.codigo);
+        return codigo == registro.codigo;
     }
     
     @Override
     public int hashCode() {
-        return codigo.hashCode();
+        return Integer.hashCode(codigo);
     }
     
     @Override
     public String toString() {
-        return codigo;
+        return getCodigo();
     }
 }
@@ -0,0 +1,79 @@
+import java.util.function.IntPredicate;
+
+// Um gap é uma sequência de posições vazias entre duas ocupadas. Menor, maior e média saem
+// de uma só passada, sem guardar os gaps. A partir de LIMITE_PARALELO posições a varredura
+// se divide em faixas: cada faixa guarda também os vazios antes do seu primeiro ocupado e
+// depois do último, e ao juntar duas faixas vizinhas essas sobras fecham o gap da fronteira
+public class ResumoGaps {
+    private static final int LIMITE_PARALELO = 100000;
+    
+    private boolean temOcupado;
+    private int vaziosInicio;
+    private int vaziosFim;
+    private int quantidade;
+    private int menor = Integer.MAX_VALUE;
+    private int maior = Integer.MIN_VALUE;
+    private long soma;
+    
+    private ResumoGaps() {
+    }
+    
+    // O teste de ocupação precisa ser seguro para leituras em paralelo da tabela parada
+    public static void calcular(int tamanho, IntPredicate ocupado, Metricas metricas) {
+        java.util.stream.IntStream posicoes = java.util.stream.IntStream.range(0, tamanho);
+        if (tamanho >= LIMITE_PARALELO) {
+            posicoes = posicoes.parallel();
+        }
+        ResumoGaps resumo = posicoes.collect(ResumoGaps::new, (r, posicao) -> r.acumular(ocupado.test(posicao)), ResumoGaps::juntar);
+        
+        if (resumo.quantidade > 0) {
+            metricas.setMenorGap(resumo.menor);
+            metricas.setMaiorGap(resumo.maior);
+            metricas.setMediaGaps((double) resumo.soma / resumo.quantidade);
+        } else {
+            metricas.setMenorGap(0);
+            metricas.setMaiorGap(0);
+            metricas.setMediaGaps(0);
+        }
+    }
+    
+    private void acumular(boolean ocupado) {
+        if (!ocupado) {
+            if (!temOcupado) vaziosInicio++;
+            vaziosFim++;
+            return;
+        }
+        if (temOcupado) registrar(vaziosFim);
+        temOcupado = true;
+        vaziosFim = 0;
+    }
+    
+    private void registrar(int gap) {
+        if (gap < menor) menor = gap;
+        if (gap > maior) maior = gap;
+        soma += gap;
+        quantidade++;
+    }
+    
+    // outro é a faixa logo depois desta
+    private void juntar(ResumoGaps outro) {
+        if (!outro.temOcupado) {
+            if (!temOcupado) vaziosInicio += outro.vaziosInicio;
+            vaziosFim += outro.vaziosFim;
+            return;
+        }
+        if (temOcupado) {
+            registrar(vaziosFim + outro.vaziosInicio);
+        } else {
+            vaziosInicio += outro.vaziosInicio;
+        }
+        if (outro.quantidade > 0) {
+            menor = Math.min(menor, outro.menor);
+            maior = Math.max(maior, outro.maior);
+            soma += outro.soma;
+            quantidade += outro.quantidade;
+        }
+        temOcupado = true;
+        vaziosFim = outro.vaziosFim;
+    }
+}
@@ -0,0 +1,107 @@
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// Percorre uma faixa [atual, fim) dos baldes de uma tabela, lendo direto da estrutura dela.
+// A divisão corta a faixa ao meio, como o HashMap: só a raiz sabe o total exato de elementos,
+// as metades recebem metade da estimativa. A tabela não pode mudar durante o percurso
+public class SpliteratorBaldes implements Spliterator<Registro> {
+    // Entrega à ação cada registro guardado no balde (slot, lista ou grupo) pedido
+    public interface Baldes {
+        void percorrer(int balde, Consumer<? super Registro> acao);
+    }
+    
+    private final Baldes baldes;
+    private int atual;
+    private final int fim;
+    private long estimativa;
+    private boolean exato;
+    
+    // Um balde pode ter vários registros, mas tryAdvance entrega um por vez
+    private Registro[] pendentes;
+    private int quantidadePendentes;
+    private int proximoPendente;
+    
+    public SpliteratorBaldes(Baldes baldes, int quantidadeBaldes, long elementos) {
+        this(baldes, 0, quantidadeBaldes, elementos, true);
+    }
+    
+    // Tabelas que mudam durante o percurso passam exato = false: o total vira só estimativa
+    public SpliteratorBaldes(Baldes baldes, int quantidadeBaldes, long elementos, boolean exato) {
+        this(baldes, 0, quantidadeBaldes, elementos, exato);
+    }
+    
+    private SpliteratorBaldes(Baldes baldes, int inicio, int fim, long estimativa, boolean exato) {
+        this.baldes = baldes;
+        this.atual = inicio;
+        this.fim = fim;
+        this.estimativa = estimativa;
+        this.exato = exato;
+        this.pendentes = new Registro[4];
+    }
+    
+    @Override
+    public boolean tryAdvance(Consumer<? super Registro> acao) {
+        while (proximoPendente == quantidadePendentes) {
+            if (atual >= fim) {
+                return false;
+            }
+            quantidadePendentes = 0;
+            proximoPendente = 0;
+            baldes.percorrer(atual++, this::guardar);
+        }
+        
+        Registro registro = pendentes[proximoPendente];
+        pendentes[proximoPendente++] = null;
+        if (estimativa > 0) {
+            estimativa--;
+        }
+        acao.accept(registro);
+        return true;
+    }
+    
+    private void guardar(Registro registro) {
+        if (quantidadePendentes == pendentes.length) {
+            pendentes = java.util.Arrays.copyOf(pendentes, pendentes.length * 2);
+        }
+        pendentes[quantidadePendentes++] = registro;
+    }
+    
+    @Override
+    public void forEachRemaining(Consumer<? super Registro> acao) {
+        while (proximoPendente < quantidadePendentes) {
+            Registro registro = pendentes[proximoPendente];
+            pendentes[proximoPendente++] = null;
+            acao.accept(registro);
+        }
+        for (; atual < fim; atual++) {
+            baldes.percorrer(atual, acao);
+        }
+        estimativa = 0;
+    }
+    
+    @Override
+    public Spliterator<Registro> trySplit() {
+        // Com um balde pela metade a divisão deixaria de ser por faixa
+        if (proximoPendente < quantidadePendentes || fim - atual < 2) {
+            return null;
+        }
+        
+        int meio = (atual + fim) >>> 1;
+        long metade = estimativa >>> 1;
+        SpliteratorBaldes prefixo = new SpliteratorBaldes(baldes, atual, meio, metade, false);
+        atual = meio;
+        estimativa -= metade;
+        exato = false;
+        return prefixo;
+    }
+    
+    @Override
+    public long estimateSize() {
+        return estimativa;
+    }
+    
+    @Override
+    public int characteristics() {
+        return exato ? NONNULL | SIZED : NONNULL;
+    }
+}
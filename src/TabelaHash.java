@@ -1,8 +1,68 @@
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface TabelaHash {
     boolean inserir(Registro registro);
-    Registro buscar(String codigo);
+    Registro buscar(int codigo);
+    boolean remover(int codigo);
     int getColisoes();
     int getTamanho();
     int getElementosInseridos();
     Metricas calcularMetricas();
+    
+    // Percorre os registros guardados, dividindo por faixas de baldes
+    Spliterator<Registro> spliterator();
+    
+    default Stream<Registro> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    default Registro buscar(String codigo) {
+        if (codigo == null || codigo.length() != 9) {
+            return null;
+        }
+        return buscar(Integer.parseInt(codigo));
+    }
+    
+    default boolean remover(String codigo) {
+        if (codigo == null || codigo.length() != 9) {
+            return false;
+        }
+        return remover(Integer.parseInt(codigo));
+    }
+    
+    default boolean contem(int codigo) {
+        return buscar(codigo) != null;
+    }
+    
+    default int inserirLote(Registro[] registros) {
+        int inseridos = 0;
+        for (Registro registro : registros) {
+            if (registro != null && inserir(registro)) {
+                inseridos++;
+            }
+        }
+        return inseridos;
+    }
+    
+    default int inserirLote(int[] codigos) {
+        Registro[] registros = new Registro[codigos.length];
+        for (int i = 0; i < codigos.length; i++) {
+            registros[i] = new Registro(codigos[i]);
+        }
+        return inserirLote(registros);
+    }
+    
+    default void buscarLote(int[] codigos, Registro[] saida) {
+        for (int i = 0; i < codigos.length; i++) {
+            saida[i] = buscar(codigos[i]);
+        }
+    }
+    
+    default void contemLote(int[] codigos, boolean[] saida) {
+        for (int i = 0; i < codigos.length; i++) {
+            saida[i] = contem(codigos[i]);
+        }
+    }
 }
@@ -0,0 +1,217 @@
+public class TabelaHashCoalescida implements TabelaHash {
+    private static final int VAZIO = -1;
+    private static final int FIM = -1;
+    // Removido vira marcador: o slot continua ligando a lista e pode ser reaproveitado por ela
+    private static final int REMOVIDO = -2;
+    
+    // As listas ficam dentro do próprio vetor: proximos[i] aponta para o slot seguinte.
+    // Só a região de endereços recebe hash; o porão, no fim do vetor, só recebe colisões
+    private int[] chaves;
+    private int[] proximos;
+    private int tamanhoEnderecos;
+    private int tamanhoPorao;
+    private int livre;
+    private int removidos;
+    private int colisoes;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash;
+    
+    public TabelaHashCoalescida(int tamanho, String funcaoHash, int tamanhoPorao) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash), tamanhoPorao);
+    }
+    
+    public TabelaHashCoalescida(int tamanho, FuncaoHash funcaoHash, int tamanhoPorao) {
+        if (tamanhoPorao < 0 || tamanhoPorao >= tamanho) {
+            throw new IllegalArgumentException("Porão deve ser menor que a tabela");
+        }
+        this.chaves = new int[tamanho];
+        this.proximos = new int[tamanho];
+        java.util.Arrays.fill(chaves, VAZIO);
+        java.util.Arrays.fill(proximos, FIM);
+        this.tamanhoEnderecos = tamanho - tamanhoPorao;
+        this.tamanhoPorao = tamanhoPorao;
+        this.livre = tamanho - 1;
+        this.removidos = 0;
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash = funcaoHash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        int codigo = registro.getCodigoInt();
+        int indice = funcaoHash.indice(codigo, tamanhoEnderecos);
+        
+        if (chaves[indice] == VAZIO) {
+            chaves[indice] = codigo;
+            elementosInseridos++;
+            return true;
+        }
+        
+        int reaproveitavel = FIM;
+        while (true) {
+            if (chaves[indice] == codigo) {
+                return false;
+            }
+            if (chaves[indice] == REMOVIDO && reaproveitavel == FIM) {
+                reaproveitavel = indice;
+            }
+            colisoes++;
+            if (proximos[indice] == FIM) {
+                break;
+            }
+            indice = proximos[indice];
+        }
+        
+        // Um marcador na própria lista é alcançável por quem busca a partir deste endereço
+        if (reaproveitavel != FIM) {
+            chaves[reaproveitavel] = codigo;
+            removidos--;
+            elementosInseridos++;
+            return true;
+        }
+        
+        // Slots livres são tomados de cima para baixo: primeiro o porão, depois a região de endereços
+        while (livre >= 0 && chaves[livre] != VAZIO) {
+            livre--;
+        }
+        if (livre < 0) {
+            return false;
+        }
+        
+        chaves[livre] = codigo;
+        proximos[indice] = livre;
+        elementosInseridos++;
+        return true;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        return contem(codigo) ? new Registro(codigo) : null;
+    }
+    
+    // Códigos negativos nunca são guardados e coincidiriam com VAZIO ou REMOVIDO
+    @Override
+    public boolean contem(int codigo) {
+        if (codigo < 0) {
+            return false;
+        }
+        
+        int indice = funcaoHash.indice(codigo, tamanhoEnderecos);
+        
+        if (chaves[indice] == VAZIO) {
+            return false;
+        }
+        
+        while (indice != FIM) {
+            if (chaves[indice] == codigo) {
+                return true;
+            }
+            indice = proximos[indice];
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public boolean remover(int codigo) {
+        if (codigo < 0) {
+            return false;
+        }
+        
+        int indice = funcaoHash.indice(codigo, tamanhoEnderecos);
+        if (chaves[indice] == VAZIO) {
+            return false;
+        }
+        
+        while (indice != FIM) {
+            if (chaves[indice] == codigo) {
+                chaves[indice] = REMOVIDO;
+                removidos++;
+                elementosInseridos--;
+                return true;
+            }
+            indice = proximos[indice];
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return chaves.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    public int getTamanhoPorao() {
+        return tamanhoPorao;
+    }
+    
+    // Marcadores e slots livres têm código negativo
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        int[] slots = chaves;
+        return new SpliteratorBaldes((slot, acao) -> {
+            if (slots[slot] >= 0) {
+                acao.accept(new Registro(slots[slot]));
+            }
+        }, slots.length, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("Coalescida-porao" + tamanhoPorao, funcaoHash.getNome(), chaves.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        metricas.setMarcadoresRemocao(removidos);
+        
+        calcularMaioresListas(metricas);
+        ResumoGaps.calcular(chaves.length, i -> chaves[i] >= 0, metricas);
+        
+        return metricas;
+    }
+    
+    // Tamanho da lista percorrida por uma busca que cai em cada endereço (com a parte coalescida)
+    private void calcularMaioresListas(Metricas metricas) {
+        int primeira = 0, segunda = 0, terceira = 0;
+        
+        for (int inicio = 0; inicio < tamanhoEnderecos; inicio++) {
+            if (chaves[inicio] == VAZIO) {
+                continue;
+            }
+            
+            int tamanhoLista = 0;
+            for (int atual = inicio; atual != FIM; atual = proximos[atual]) {
+                tamanhoLista++;
+            }
+            
+            if (tamanhoLista > primeira) {
+                terceira = segunda;
+                segunda = primeira;
+                primeira = tamanhoLista;
+            } else if (tamanhoLista > segunda) {
+                terceira = segunda;
+                segunda = tamanhoLista;
+            } else if (tamanhoLista > terceira) {
+                terceira = tamanhoLista;
+            }
+        }
+        
+        metricas.setMaiorLista(primeira);
+        metricas.setSegundaMaiorLista(segunda);
+        metricas.setTerceiraMaiorLista(terceira);
+    }
+}
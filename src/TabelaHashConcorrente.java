@@ -0,0 +1,5 @@
+// Tabelas que aceitam várias threads na mesma instância sem sincronização externa
+public interface TabelaHashConcorrente extends TabelaHash {
+    // Vezes em que uma operação achou a trava ocupada ou perdeu um compareAndSet e repetiu
+    long getDisputas();
+}
@@ -0,0 +1,367 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Encadeamento concorrente que cresce sob carga, no esquema de transferência do
+// ConcurrentHashMap. As listas são imutáveis e cada balde muda só por compareAndSet na
+// cabeça. Ao passar da carga máxima a tabela dobra: quem escreve pega blocos de baldes e os
+// copia para o vetor novo, deixando no antigo um encaminhamento. A busca nunca espera:
+// um balde em cópia ainda é lido pela lista original, e um encaminhado leva ao vetor novo
+public class TabelaHashConcorrenteRedimensionavel implements TabelaHashConcorrente {
+    private static final double FATOR_CARGA_MAXIMO = 0.75;
+    // Baldes copiados por vez por quem ajuda, como o MIN_TRANSFER_STRIDE do ConcurrentHashMap
+    private static final int PASSO_TRANSFERENCIA = 16;
+    // Somar o LongAdder percorre todas as células; cada inserção confere a carga com essa
+    // probabilidade, e o crescimento atrasa em média esse número de inserções
+    private static final int INTERVALO_VERIFICACAO = 32;
+    
+    private volatile AtomicReferenceArray<No> tabela;
+    private volatile Transferencia transferencia;
+    private final LongAdder colisoes;
+    private final LongAdder elementosInseridos;
+    private final LongAdder disputas;
+    private final FuncaoHash funcaoHash;
+    private int redimensionamentos;
+    
+    // Cada nó guarda o tamanho da lista a partir dele, para a inserção contar as colisões
+    // sem percorrer o balde
+    private static class No {
+        final Registro registro;
+        final No proximo;
+        final int tamanho;
+        
+        No(Registro registro, No proximo) {
+            this.registro = registro;
+            this.proximo = proximo;
+            this.tamanho = proximo == null ? 1 : proximo.tamanho + 1;
+        }
+    }
+    
+    // Balde sendo copiado: leitores seguem na lista, escritores esperam a cópia do balde
+    private static final class EmCopia extends No {
+        final No lista;
+        
+        EmCopia(No lista) {
+            super(null, null);
+            this.lista = lista;
+        }
+    }
+    
+    // Balde já copiado: o conteúdo está todo no vetor de destino. A lista original fica
+    // guardada para um percurso em andamento, já que no destino ela se mistura a outros baldes
+    private static final class Encaminhamento extends No {
+        final AtomicReferenceArray<No> destino;
+        final No lista;
+        
+        Encaminhamento(AtomicReferenceArray<No> destino, No lista) {
+            super(null, null);
+            this.destino = destino;
+            this.lista = lista;
+        }
+    }
+    
+    // Um crescimento em andamento: os blocos são distribuídos por proximoBalde e o último a
+    // completar a contagem de copiados publica o vetor novo
+    private static final class Transferencia {
+        final AtomicReferenceArray<No> origem;
+        final AtomicReferenceArray<No> destino;
+        final AtomicInteger proximoBalde;
+        final AtomicInteger baldesCopiados;
+        
+        Transferencia(AtomicReferenceArray<No> origem, AtomicReferenceArray<No> destino) {
+            this.origem = origem;
+            this.destino = destino;
+            this.proximoBalde = new AtomicInteger();
+            this.baldesCopiados = new AtomicInteger();
+        }
+    }
+    
+    public TabelaHashConcorrenteRedimensionavel(int tamanhoInicial, String funcaoHash) {
+        this(tamanhoInicial, FuncaoHash.porNome(funcaoHash));
+    }
+    
+    public TabelaHashConcorrenteRedimensionavel(int tamanhoInicial, FuncaoHash funcaoHash) {
+        if (tamanhoInicial < 1) {
+            throw new IllegalArgumentException("Tamanho inicial deve ser positivo");
+        }
+        this.tabela = new AtomicReferenceArray<>(tamanhoInicial);
+        this.colisoes = new LongAdder();
+        this.elementosInseridos = new LongAdder();
+        this.disputas = new LongAdder();
+        this.funcaoHash = funcaoHash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        int codigo = registro.getCodigoInt();
+        AtomicReferenceArray<No> vetor = tabela;
+        while (true) {
+            int indice = funcaoHash.indice(codigo, vetor.length());
+            No cabeca = vetor.get(indice);
+            
+            if (cabeca instanceof Encaminhamento) {
+                vetor = ((Encaminhamento) cabeca).destino;
+            } else if (cabeca instanceof EmCopia) {
+                ajudarOuEsperar();
+            } else if (vetor.compareAndSet(indice, cabeca, new No(registro, cabeca))) {
+                // A colisão conta os registros já presentes no balde, como no encadeamento
+                colisoes.add(cabeca == null ? 0 : cabeca.tamanho);
+                break;
+            } else {
+                disputas.increment();
+            }
+        }
+        
+        elementosInseridos.increment();
+        // Uma leitura só do campo: entre duas, outra thread pode concluir e zerar a transferência
+        Transferencia atual = transferencia;
+        if (atual != null) {
+            ajudarTransferencia(atual);
+        } else if (java.util.concurrent.ThreadLocalRandom.current().nextInt(INTERVALO_VERIFICACAO) == 0
+                   && elementosInseridos.sum() > vetor.length() * FATOR_CARGA_MAXIMO) {
+            iniciarCrescimento(vetor);
+        }
+        return true;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        AtomicReferenceArray<No> vetor = tabela;
+        No atual = vetor.get(funcaoHash.indice(codigo, vetor.length()));
+        
+        while (atual instanceof Encaminhamento) {
+            vetor = ((Encaminhamento) atual).destino;
+            atual = vetor.get(funcaoHash.indice(codigo, vetor.length()));
+        }
+        if (atual instanceof EmCopia) {
+            atual = ((EmCopia) atual).lista;
+        }
+        
+        for (; atual != null; atual = atual.proximo) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                return atual.registro;
+            }
+        }
+        return null;
+    }
+    
+    // Copia os nós antes do removido e troca a cabeça de uma vez; se o balde mudou nesse
+    // meio-tempo, tenta de novo sobre a lista nova
+    @Override
+    public boolean remover(int codigo) {
+        AtomicReferenceArray<No> vetor = tabela;
+        while (true) {
+            int indice = funcaoHash.indice(codigo, vetor.length());
+            No cabeca = vetor.get(indice);
+            
+            if (cabeca instanceof Encaminhamento) {
+                vetor = ((Encaminhamento) cabeca).destino;
+                continue;
+            } else if (cabeca instanceof EmCopia) {
+                ajudarOuEsperar();
+                continue;
+            }
+            
+            int posicao = 0;
+            No removido = cabeca;
+            while (removido != null && removido.registro.getCodigoInt() != codigo) {
+                removido = removido.proximo;
+                posicao++;
+            }
+            if (removido == null) {
+                return false;
+            }
+            
+            Registro[] anteriores = new Registro[posicao];
+            No atual = cabeca;
+            for (int i = 0; i < posicao; i++) {
+                anteriores[i] = atual.registro;
+                atual = atual.proximo;
+            }
+            No novaCabeca = removido.proximo;
+            for (int i = posicao - 1; i >= 0; i--) {
+                novaCabeca = new No(anteriores[i], novaCabeca);
+            }
+            
+            if (vetor.compareAndSet(indice, cabeca, novaCabeca)) {
+                elementosInseridos.decrement();
+                return true;
+            }
+            disputas.increment();
+        }
+    }
+    
+    // Só a abertura do crescimento trava, e só entre escritores
+    private synchronized void iniciarCrescimento(AtomicReferenceArray<No> vetor) {
+        if (transferencia != null || tabela != vetor || elementosInseridos.sum() <= vetor.length() * FATOR_CARGA_MAXIMO) {
+            return;
+        }
+        int novoTamanho = (int) Math.min(Integer.MAX_VALUE - 8, vetor.length() * 2L);
+        transferencia = new Transferencia(vetor, new AtomicReferenceArray<>(novoTamanho));
+        redimensionamentos++;
+    }
+    
+    // Escritores que encontram um balde em cópia ajudam com outro bloco; se não sobrou
+    // bloco a pegar, cedem a vez até quem pegou aquele balde terminar
+    private void ajudarOuEsperar() {
+        disputas.increment();
+        Transferencia atual = transferencia;
+        if (atual == null || !ajudarTransferencia(atual)) {
+            Thread.yield();
+        }
+    }
+    
+    // Pega um bloco de baldes ainda não distribuído e copia; devolve false se não havia
+    private boolean ajudarTransferencia(Transferencia atual) {
+        int tamanho = atual.origem.length();
+        int inicio = atual.proximoBalde.getAndAdd(PASSO_TRANSFERENCIA);
+        if (inicio >= tamanho) {
+            return false;
+        }
+        
+        int fim = Math.min(tamanho, inicio + PASSO_TRANSFERENCIA);
+        for (int balde = inicio; balde < fim; balde++) {
+            copiarBalde(atual, balde);
+        }
+        
+        if (atual.baldesCopiados.addAndGet(fim - inicio) == tamanho) {
+            tabela = atual.destino;
+            transferencia = null;
+        }
+        return true;
+    }
+    
+    // Congela o balde com um EmCopia, recria os nós no destino e só então encaminha. Outras
+    // cópias e inserções podem cair no mesmo balde de destino, por isso ele também usa CAS
+    private void copiarBalde(Transferencia atual, int balde) {
+        No cabeca;
+        do {
+            cabeca = atual.origem.get(balde);
+        } while (!atual.origem.compareAndSet(balde, cabeca, new EmCopia(cabeca)));
+        
+        AtomicReferenceArray<No> destino = atual.destino;
+        for (No no = cabeca; no != null; no = no.proximo) {
+            int indice = funcaoHash.indice(no.registro.getCodigoInt(), destino.length());
+            No cabecaDestino;
+            do {
+                cabecaDestino = destino.get(indice);
+            } while (!destino.compareAndSet(indice, cabecaDestino, new No(no.registro, cabecaDestino)));
+        }
+        
+        atual.origem.set(balde, new Encaminhamento(destino, cabeca));
+    }
+    
+    // Para quem precisa da tabela parada numa só versão: métricas e percurso
+    public void concluirRedimensionamento() {
+        Transferencia atual;
+        while ((atual = transferencia) != null) {
+            if (!ajudarTransferencia(atual)) {
+                Thread.yield();
+            }
+        }
+    }
+    
+    public synchronized int getRedimensionamentos() {
+        return redimensionamentos;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+    
+    @Override
+    public long getDisputas() {
+        return disputas.sum();
+    }
+    
+    @Override
+    public int getTamanho() {
+        return tabela.length();
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return (int) elementosInseridos.sum();
+    }
+    
+    // Fracamente consistente. Se um crescimento começar durante o percurso, os baldes ainda
+    // não lidos são percorridos pela lista que cada um tinha quando foi copiado
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        concluirRedimensionamento();
+        AtomicReferenceArray<No> vetor = tabela;
+        return new SpliteratorBaldes((balde, acao) -> {
+            No atual = vetor.get(balde);
+            if (atual instanceof Encaminhamento) {
+                atual = ((Encaminhamento) atual).lista;
+            } else if (atual instanceof EmCopia) {
+                atual = ((EmCopia) atual).lista;
+            }
+            for (; atual != null; atual = atual.proximo) {
+                acao.accept(atual.registro);
+            }
+        }, vetor.length(), elementosInseridos.sum(), false);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        concluirRedimensionamento();
+        AtomicReferenceArray<No> vetor = tabela;
+        Metricas metricas = new Metricas("EncadeamentoConcorrenteRedimensionavel", funcaoHash.getNome(), vetor.length());
+        metricas.setColisoes(getColisoes());
+        metricas.setElementosInseridos(getElementosInseridos());
+        
+        int primeira = 0, segunda = 0, terceira = 0;
+        long comparacoes = 0;
+        long elementos = 0;
+        int menorGap = Integer.MAX_VALUE, maiorGap = 0, gaps = 0;
+        long somaGaps = 0;
+        int gapAtual = 0;
+        boolean encontrouPrimeiro = false;
+        
+        for (int i = 0; i < vetor.length(); i++) {
+            No cabeca = vetor.get(i);
+            int tamanhoLista = cabeca == null || cabeca.registro == null ? 0 : cabeca.tamanho;
+            comparacoes += (long) tamanhoLista * (tamanhoLista + 1) / 2;
+            elementos += tamanhoLista;
+            
+            if (tamanhoLista > primeira) {
+                terceira = segunda;
+                segunda = primeira;
+                primeira = tamanhoLista;
+            } else if (tamanhoLista > segunda) {
+                terceira = segunda;
+                segunda = tamanhoLista;
+            } else if (tamanhoLista > terceira) {
+                terceira = tamanhoLista;
+            }
+            
+            if (tamanhoLista > 0) {
+                if (encontrouPrimeiro) {
+                    menorGap = Math.min(menorGap, gapAtual);
+                    maiorGap = Math.max(maiorGap, gapAtual);
+                    somaGaps += gapAtual;
+                    gaps++;
+                }
+                gapAtual = 0;
+                encontrouPrimeiro = true;
+            } else if (encontrouPrimeiro) {
+                gapAtual++;
+            }
+        }
+        
+        metricas.setMaiorLista(primeira);
+        metricas.setSegundaMaiorLista(segunda);
+        metricas.setTerceiraMaiorLista(terceira);
+        metricas.setComparacoesMediaBusca(elementos > 0 ? (double) comparacoes / elementos : 0);
+        metricas.setMenorGap(gaps > 0 ? menorGap : 0);
+        metricas.setMaiorGap(maiorGap);
+        metricas.setMediaGaps(gaps > 0 ? (double) somaGaps / gaps : 0);
+        return metricas;
+    }
+}
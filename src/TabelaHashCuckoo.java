@@ -0,0 +1,284 @@
+public class TabelaHashCuckoo implements TabelaHash {
+    private static final int VAZIO = -1;
+    private static final int SLOTS_POR_BALDE = 4;
+    private static final int MAX_EXPULSOES = 500;
+    private static final int TAMANHO_STASH = 8;
+    
+    // Cada código só pode estar em um dos 4 slots dos seus dois baldes ou no stash
+    private int[] chaves;
+    private int numeroBaldes;
+    private int[] stash;
+    private int usadosStash;
+    private int picoStash;
+    private int colisoes;
+    private int expulsoes;
+    private int redimensionamentos;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash1;
+    private FuncaoHash funcaoHash2;
+    private int estadoAleatorio;
+    
+    public TabelaHashCuckoo(int tamanho) {
+        this(tamanho, "multiplicacao", "xorshift");
+    }
+    
+    public TabelaHashCuckoo(int tamanho, String funcaoHash1, String funcaoHash2) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash1), FuncaoHash.porNome(funcaoHash2));
+    }
+    
+    public TabelaHashCuckoo(int tamanho, FuncaoHash funcaoHash1, FuncaoHash funcaoHash2) {
+        this.numeroBaldes = Math.max(2, (tamanho + SLOTS_POR_BALDE - 1) / SLOTS_POR_BALDE);
+        this.chaves = new int[numeroBaldes * SLOTS_POR_BALDE];
+        java.util.Arrays.fill(chaves, VAZIO);
+        this.stash = new int[TAMANHO_STASH];
+        this.usadosStash = 0;
+        this.colisoes = 0;
+        this.expulsoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash1 = funcaoHash1;
+        this.funcaoHash2 = funcaoHash2;
+        this.estadoAleatorio = 12345;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        int codigo = registro.getCodigoInt();
+        if (localizar(codigo)) {
+            return false;
+        }
+        
+        int semLugar = posicionar(codigo);
+        if (semLugar != VAZIO) {
+            if (usadosStash < TAMANHO_STASH) {
+                stash[usadosStash++] = semLugar;
+                picoStash = Math.max(picoStash, usadosStash);
+            } else {
+                redimensionar(semLugar);
+            }
+        }
+        
+        elementosInseridos++;
+        return true;
+    }
+    
+    // Devolve VAZIO se o código (ou quem ele expulsou) encontrou lugar, senão o código que sobrou
+    private int posicionar(int codigo) {
+        int balde1 = primeiroBalde(codigo);
+        if (colocarNoBalde(balde1, codigo) || colocarNoBalde(segundoBalde(codigo, balde1), codigo)) {
+            return VAZIO;
+        }
+        
+        colisoes++;
+        int atual = codigo;
+        int balde = balde1;
+        
+        for (int i = 0; i < MAX_EXPULSOES; i++) {
+            int slot = balde * SLOTS_POR_BALDE + proximoAleatorio() % SLOTS_POR_BALDE;
+            int expulso = chaves[slot];
+            chaves[slot] = atual;
+            atual = expulso;
+            expulsoes++;
+            
+            int origem = primeiroBalde(atual);
+            int alternativo = balde == origem ? segundoBalde(atual, origem) : origem;
+            if (colocarNoBalde(alternativo, atual)) {
+                return VAZIO;
+            }
+            balde = alternativo;
+        }
+        
+        return atual;
+    }
+    
+    private boolean colocarNoBalde(int balde, int codigo) {
+        int inicio = balde * SLOTS_POR_BALDE;
+        for (int i = inicio; i < inicio + SLOTS_POR_BALDE; i++) {
+            if (chaves[i] == VAZIO) {
+                chaves[i] = codigo;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Dobra os baldes e reinsere tudo; se ainda assim algo sobrar, dobra de novo
+    private void redimensionar(int pendente) {
+        int[] todos = new int[elementosInseridos + 1];
+        int total = 0;
+        for (int chave : chaves) {
+            if (chave != VAZIO) todos[total++] = chave;
+        }
+        for (int i = 0; i < usadosStash; i++) {
+            todos[total++] = stash[i];
+        }
+        todos[total++] = pendente;
+        
+        boolean coube;
+        do {
+            numeroBaldes *= 2;
+            chaves = new int[numeroBaldes * SLOTS_POR_BALDE];
+            java.util.Arrays.fill(chaves, VAZIO);
+            usadosStash = 0;
+            redimensionamentos++;
+            
+            coube = true;
+            for (int i = 0; i < total && coube; i++) {
+                int semLugar = posicionar(todos[i]);
+                if (semLugar != VAZIO) {
+                    if (usadosStash < TAMANHO_STASH) {
+                        stash[usadosStash++] = semLugar;
+                        picoStash = Math.max(picoStash, usadosStash);
+                    } else {
+                        coube = false;
+                    }
+                }
+            }
+        } while (!coube);
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        return localizar(codigo) ? new Registro(codigo) : null;
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        return localizar(codigo);
+    }
+    
+    // Códigos negativos nunca são guardados e -1 coincidiria com um slot VAZIO
+    @Override
+    public boolean remover(int codigo) {
+        if (codigo < 0) {
+            return false;
+        }
+        
+        int balde1 = primeiroBalde(codigo);
+        if (removerDoBalde(balde1, codigo) || removerDoBalde(segundoBalde(codigo, balde1), codigo)) {
+            elementosInseridos--;
+            return true;
+        }
+        
+        for (int i = 0; i < usadosStash; i++) {
+            if (stash[i] == codigo) {
+                stash[i] = stash[--usadosStash];
+                elementosInseridos--;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean removerDoBalde(int balde, int codigo) {
+        int inicio = balde * SLOTS_POR_BALDE;
+        for (int i = inicio; i < inicio + SLOTS_POR_BALDE; i++) {
+            if (chaves[i] == codigo) {
+                chaves[i] = VAZIO;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // No máximo dois baldes (duas linhas de cache) mais o stash, que é minúsculo
+    private boolean localizar(int codigo) {
+        if (codigo < 0) {
+            return false;
+        }
+        
+        int balde1 = primeiroBalde(codigo);
+        if (contemNoBalde(balde1, codigo) || contemNoBalde(segundoBalde(codigo, balde1), codigo)) {
+            return true;
+        }
+        for (int i = 0; i < usadosStash; i++) {
+            if (stash[i] == codigo) return true;
+        }
+        return false;
+    }
+    
+    private boolean contemNoBalde(int balde, int codigo) {
+        int inicio = balde * SLOTS_POR_BALDE;
+        for (int i = inicio; i < inicio + SLOTS_POR_BALDE; i++) {
+            if (chaves[i] == codigo) return true;
+        }
+        return false;
+    }
+    
+    private int primeiroBalde(int codigo) {
+        return funcaoHash1.indice(codigo, numeroBaldes);
+    }
+    
+    private int segundoBalde(int codigo, int balde1) {
+        int balde2 = funcaoHash2.indice(codigo, numeroBaldes);
+        return balde2 == balde1 ? (balde1 + 1) % numeroBaldes : balde2;
+    }
+    
+    private int proximoAleatorio() {
+        estadoAleatorio ^= estadoAleatorio << 13;
+        estadoAleatorio ^= estadoAleatorio >>> 17;
+        estadoAleatorio ^= estadoAleatorio << 5;
+        return estadoAleatorio & Integer.MAX_VALUE;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return chaves.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    public int getRedimensionamentos() {
+        return redimensionamentos;
+    }
+    
+    // Um balde por grupo de slots e, depois do último, o stash como balde extra
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        int[] chavesBaldes = chaves;
+        int[] chavesStash = stash;
+        int usados = usadosStash;
+        int baldes = numeroBaldes;
+        return new SpliteratorBaldes((balde, acao) -> {
+            if (balde == baldes) {
+                for (int i = 0; i < usados; i++) {
+                    acao.accept(new Registro(chavesStash[i]));
+                }
+                return;
+            }
+            for (int slot = balde * SLOTS_POR_BALDE; slot < (balde + 1) * SLOTS_POR_BALDE; slot++) {
+                if (chavesBaldes[slot] != VAZIO) {
+                    acao.accept(new Registro(chavesBaldes[slot]));
+                }
+            }
+        }, baldes + 1, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("Cuckoo", funcaoHash1.getNome() + "+" + funcaoHash2.getNome(), chaves.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        metricas.setExpulsoes(expulsoes);
+        metricas.setUsoStash(picoStash);
+        
+        metricas.setMaiorLista(1);
+        metricas.setSegundaMaiorLista(1);
+        metricas.setTerceiraMaiorLista(1);
+        
+        ResumoGaps.calcular(chaves.length, i -> chaves[i] != VAZIO, metricas);
+        
+        return metricas;
+    }
+}
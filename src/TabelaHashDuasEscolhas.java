@@ -0,0 +1,194 @@
+public class TabelaHashDuasEscolhas implements TabelaHash {
+    // Cada código tem dois baldes candidatos e vai para o de lista mais curta
+    private No[] tabela;
+    private int[] tamanhosLista;
+    private int colisoes;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash1;
+    private FuncaoHash funcaoHash2;
+    
+    private static class No {
+        Registro registro;
+        No proximo;
+        
+        No(Registro registro) {
+            this.registro = registro;
+            this.proximo = null;
+        }
+    }
+    
+    public TabelaHashDuasEscolhas(int tamanho) {
+        this(tamanho, "multiplicacao", "xorshift");
+    }
+    
+    public TabelaHashDuasEscolhas(int tamanho, String funcaoHash1, String funcaoHash2) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash1), FuncaoHash.porNome(funcaoHash2));
+    }
+    
+    public TabelaHashDuasEscolhas(int tamanho, FuncaoHash funcaoHash1, FuncaoHash funcaoHash2) {
+        this.tabela = new No[tamanho];
+        this.tamanhosLista = new int[tamanho];
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash1 = funcaoHash1;
+        this.funcaoHash2 = funcaoHash2;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        int codigo = registro.getCodigoInt();
+        int balde1 = funcaoHash1.indice(codigo, tabela.length);
+        int balde2 = funcaoHash2.indice(codigo, tabela.length);
+        int indice = tamanhosLista[balde2] < tamanhosLista[balde1] ? balde2 : balde1;
+        No novoNo = new No(registro);
+        
+        if (tabela[indice] == null) {
+            tabela[indice] = novoNo;
+        } else {
+            colisoes += tamanhosLista[indice];
+            No atual = tabela[indice];
+            
+            while (atual.proximo != null) {
+                atual = atual.proximo;
+            }
+            atual.proximo = novoNo;
+        }
+        
+        tamanhosLista[indice]++;
+        elementosInseridos++;
+        return true;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        int balde1 = funcaoHash1.indice(codigo, tabela.length);
+        Registro encontrado = buscarNaLista(tabela[balde1], codigo);
+        if (encontrado != null) {
+            return encontrado;
+        }
+        
+        // A busca sem sucesso sempre paga as duas listas
+        int balde2 = funcaoHash2.indice(codigo, tabela.length);
+        return balde2 != balde1 ? buscarNaLista(tabela[balde2], codigo) : null;
+    }
+    
+    @Override
+    public boolean remover(int codigo) {
+        int balde1 = funcaoHash1.indice(codigo, tabela.length);
+        if (removerDaLista(balde1, codigo)) {
+            return true;
+        }
+        
+        int balde2 = funcaoHash2.indice(codigo, tabela.length);
+        return balde2 != balde1 && removerDaLista(balde2, codigo);
+    }
+    
+    private boolean removerDaLista(int balde, int codigo) {
+        No anterior = null;
+        No atual = tabela[balde];
+        while (atual != null) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                if (anterior == null) {
+                    tabela[balde] = atual.proximo;
+                } else {
+                    anterior.proximo = atual.proximo;
+                }
+                tamanhosLista[balde]--;
+                elementosInseridos--;
+                return true;
+            }
+            anterior = atual;
+            atual = atual.proximo;
+        }
+        return false;
+    }
+    
+    private Registro buscarNaLista(No atual, int codigo) {
+        while (atual != null) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                return atual.registro;
+            }
+            atual = atual.proximo;
+        }
+        return null;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return tabela.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        No[] baldes = tabela;
+        return new SpliteratorBaldes((balde, acao) -> {
+            for (No atual = baldes[balde]; atual != null; atual = atual.proximo) {
+                acao.accept(atual.registro);
+            }
+        }, baldes.length, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("DuasEscolhas", funcaoHash1.getNome() + "+" + funcaoHash2.getNome(), tabela.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        
+        calcularMaioresListas(metricas);
+        calcularComparacoesBusca(metricas);
+        ResumoGaps.calcular(tabela.length, i -> tabela[i] != null, metricas);
+        
+        return metricas;
+    }
+    
+    private void calcularMaioresListas(Metricas metricas) {
+        int primeira = 0, segunda = 0, terceira = 0;
+        
+        for (int tamanhoLista : tamanhosLista) {
+            if (tamanhoLista > primeira) {
+                terceira = segunda;
+                segunda = primeira;
+                primeira = tamanhoLista;
+            } else if (tamanhoLista > segunda) {
+                terceira = segunda;
+                segunda = tamanhoLista;
+            } else if (tamanhoLista > terceira) {
+                terceira = tamanhoLista;
+            }
+        }
+        
+        metricas.setMaiorLista(primeira);
+        metricas.setSegundaMaiorLista(segunda);
+        metricas.setTerceiraMaiorLista(terceira);
+    }
+    
+    // Quem ficou no segundo balde paga antes a lista inteira do primeiro
+    private void calcularComparacoesBusca(Metricas metricas) {
+        long comparacoes = 0;
+        
+        for (int balde = 0; balde < tabela.length; balde++) {
+            int posicao = 0;
+            for (No atual = tabela[balde]; atual != null; atual = atual.proximo) {
+                posicao++;
+                int balde1 = funcaoHash1.indice(atual.registro.getCodigoInt(), tabela.length);
+                comparacoes += balde1 == balde ? posicao : tamanhosLista[balde1] + posicao;
+            }
+        }
+        
+        metricas.setComparacoesMediaBusca(elementosInseridos > 0 ? (double) comparacoes / elementosInseridos : 0);
+    }
+}
@@ -1,12 +1,40 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class TabelaHashEncadeamento implements TabelaHash {
+    private static final int LOTE_INTERCALADO = 16;
+    // Construção paralela: blocos de registros por tarefa e faixas de baldes por trabalhador
+    private static final int REGISTROS_POR_TAREFA = 1 << 16;
+    private static final int FAIXAS_POR_TRABALHADOR = 4;
+    // Memória por balde para o particionamento: a referência e, por elemento, nó + Registro
+    private static final int BYTES_POR_REFERENCIA = 4;
+    private static final int BYTES_POR_NO = 48;
+    // Listas acima de LIMITE_ORDENAR viram um vetor ordenado por código, com busca binária;
+    // abaixo de LIMITE_LISTA voltam a ser lista. A folga entre os dois, como no HashMap,
+    // evita converter e desconverter a cada inserção e remoção na fronteira
+    private static final int LIMITE_ORDENAR = 8;
+    private static final int LIMITE_LISTA = 6;
+    // A partir deste número de baldes as varreduras das métricas se dividem entre os núcleos
+    private static final int LIMITE_PARALELO = 100000;
+    // Políticas de auto-organização: a cada busca bem-sucedida o nó encontrado vai para a
+    // cabeça da lista, troca de lugar com o anterior ou sobe pela contagem de acessos
+    private static final int SEM_ORGANIZACAO = 0;
+    private static final int MOVER_FRENTE = 1;
+    private static final int TRANSPOR = 2;
+    private static final int FREQUENCIA = 3;
+    
     private No[] tabela;
     private int colisoes;
     private int elementosInseridos;
-    private String funcaoHash;
+    private FuncaoHash funcaoHash;
+    private No[] cursoresLote;
+    private int politica;
     
     private static class No {
         Registro registro;
         No proximo;
+        // Cabe no alinhamento do objeto (12 de cabeçalho + 2 referências comprimidas)
+        int acessos;
         
         No(Registro registro) {
             this.registro = registro;
@@ -14,11 +42,242 @@ public class TabelaHashEncadeamento implements TabelaHash {
         }
     }
     
+    // Ocupa o lugar da cabeça da lista num balde convertido. Os códigos ficam num int[]
+    // próprio, então a busca binária não segue referência até achar a posição
+    private static class BaldeOrdenado extends No {
+        int[] codigos;
+        Registro[] registros;
+        int tamanho;
+        
+        // A ordenação é estável: códigos repetidos mantêm a ordem em que entraram na lista
+        BaldeOrdenado(No lista, int tamanhoLista) {
+            super(null);
+            this.registros = new Registro[tamanhoLista * 2];
+            for (No atual = lista; atual != null; atual = atual.proximo) {
+                registros[tamanho++] = atual.registro;
+            }
+            java.util.Arrays.sort(registros, 0, tamanho, java.util.Comparator.comparingInt(Registro::getCodigoInt));
+            this.codigos = new int[registros.length];
+            for (int i = 0; i < tamanho; i++) {
+                codigos[i] = registros[i].getCodigoInt();
+            }
+        }
+        
+        void adicionar(Registro registro) {
+            if (tamanho == codigos.length) {
+                codigos = java.util.Arrays.copyOf(codigos, tamanho * 2);
+                registros = java.util.Arrays.copyOf(registros, tamanho * 2);
+            }
+            
+            // Depois dos códigos iguais já presentes, como o fim da lista
+            int codigo = registro.getCodigoInt();
+            int inicio = 0, fim = tamanho;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (codigos[meio] <= codigo) inicio = meio + 1; else fim = meio;
+            }
+            
+            System.arraycopy(codigos, inicio, codigos, inicio + 1, tamanho - inicio);
+            System.arraycopy(registros, inicio, registros, inicio + 1, tamanho - inicio);
+            codigos[inicio] = codigo;
+            registros[inicio] = registro;
+            tamanho++;
+        }
+        
+        int localizar(int codigo) {
+            int posicao = java.util.Arrays.binarySearch(codigos, 0, tamanho, codigo);
+            return posicao >= 0 ? posicao : -1;
+        }
+        
+        Registro buscar(int codigo) {
+            int posicao = localizar(codigo);
+            return posicao >= 0 ? registros[posicao] : null;
+        }
+        
+        void removerEm(int posicao) {
+            System.arraycopy(codigos, posicao + 1, codigos, posicao, tamanho - posicao - 1);
+            System.arraycopy(registros, posicao + 1, registros, posicao, tamanho - posicao - 1);
+            registros[--tamanho] = null;
+        }
+        
+        No paraLista() {
+            No cabeca = null;
+            for (int i = tamanho - 1; i >= 0; i--) {
+                No novoNo = new No(registros[i]);
+                novoNo.proximo = cabeca;
+                cabeca = novoNo;
+            }
+            return cabeca;
+        }
+    }
+    
     public TabelaHashEncadeamento(int tamanho, String funcaoHash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash));
+    }
+    
+    public TabelaHashEncadeamento(int tamanho, FuncaoHash funcaoHash) {
+        this(tamanho, funcaoHash, "nenhuma");
+    }
+    
+    public TabelaHashEncadeamento(int tamanho, String funcaoHash, String politica) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash), politica);
+    }
+    
+    // Com uma política ativa as listas não viram baldes ordenados: a ordem por acesso
+    // é justamente o que a política mantém, e o vetor ordenado por código a desfaria
+    public TabelaHashEncadeamento(int tamanho, FuncaoHash funcaoHash, String politica) {
         this.tabela = new No[tamanho];
         this.colisoes = 0;
         this.elementosInseridos = 0;
         this.funcaoHash = funcaoHash;
+        this.cursoresLote = new No[LOTE_INTERCALADO];
+        switch (politica) {
+            case "nenhuma": this.politica = SEM_ORGANIZACAO; break;
+            case "mover_frente": this.politica = MOVER_FRENTE; break;
+            case "transpor": this.politica = TRANSPOR; break;
+            case "frequencia": this.politica = FREQUENCIA; break;
+            default: throw new IllegalArgumentException("Política de organização desconhecida: " + politica);
+        }
+    }
+    
+    // Constrói a tabela em paralelo, com o mesmo resultado de inserir os registros em ordem:
+    // 1) uma passada fork-join calcula o balde de cada registro; 2) os registros são
+    // distribuídos, de forma estável, por faixas contíguas de baldes; 3) cada faixa é ligada
+    // por um único trabalhador, que é o único a tocar aqueles baldes e dispensa travas
+    public static TabelaHashEncadeamento construirEmParalelo(int tamanho, String funcaoHash,
+                                                             Registro[] registros, int threads) {
+        return construirEmParalelo(tamanho, FuncaoHash.porNome(funcaoHash), registros, threads);
+    }
+    
+    public static TabelaHashEncadeamento construirEmParalelo(int tamanho, FuncaoHash funcaoHash,
+                                                             Registro[] registros, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Número de threads deve ser positivo");
+        }
+        
+        TabelaHashEncadeamento resultado = new TabelaHashEncadeamento(tamanho, funcaoHash);
+        int total = registros.length;
+        int faixas = Math.min(tamanho, threads * FAIXAS_POR_TRABALHADOR);
+        int blocos = Math.max(1, (total + REGISTROS_POR_TAREFA - 1) / REGISTROS_POR_TAREFA);
+        
+        int[] baldes = new int[total];
+        int[][] contagens = new int[blocos][faixas + 1];
+        int[] ordem = new int[total];
+        int[] iniciosFaixa = new int[faixas + 1];
+        No[] caudas = new No[tamanho];
+        int[] tamanhosLista = new int[tamanho];
+        long[] colisoesFaixa = new long[faixas];
+        
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // Balde de cada registro e quantos caem em cada faixa, por bloco; nulos ficam na faixa extra
+            pool.invoke(new TarefaFaixa(0, blocos, bloco -> {
+                int fim = Math.min(total, (bloco + 1) * REGISTROS_POR_TAREFA);
+                for (int i = bloco * REGISTROS_POR_TAREFA; i < fim; i++) {
+                    if (registros[i] == null) {
+                        baldes[i] = -1;
+                        contagens[bloco][faixas]++;
+                    } else {
+                        baldes[i] = funcaoHash.indice(registros[i].getCodigoInt(), tamanho);
+                        contagens[bloco][faixaDoBalde(baldes[i], faixas, tamanho)]++;
+                    }
+                }
+            }));
+            
+            // Soma de prefixos: cada bloco escreve a partir do ponto onde os blocos anteriores pararam
+            int posicao = 0;
+            for (int faixa = 0; faixa <= faixas; faixa++) {
+                iniciosFaixa[faixa] = posicao;
+                for (int bloco = 0; bloco < blocos; bloco++) {
+                    int quantidade = contagens[bloco][faixa];
+                    contagens[bloco][faixa] = posicao;
+                    posicao += quantidade;
+                }
+            }
+            
+            // Blocos em ordem e registros em ordem dentro do bloco: a distribuição é estável
+            pool.invoke(new TarefaFaixa(0, blocos, bloco -> {
+                int fim = Math.min(total, (bloco + 1) * REGISTROS_POR_TAREFA);
+                for (int i = bloco * REGISTROS_POR_TAREFA; i < fim; i++) {
+                    int faixa = baldes[i] < 0 ? faixas : faixaDoBalde(baldes[i], faixas, tamanho);
+                    ordem[contagens[bloco][faixa]++] = i;
+                }
+            }));
+            
+            // Cada faixa liga seus nós pela cauda; a colisão conta o tamanho da lista encontrada,
+            // exatamente como a inserção um a um
+            No[] tabela = resultado.tabela;
+            pool.invoke(new TarefaFaixa(0, faixas, faixa -> {
+                long colisoes = 0;
+                for (int k = iniciosFaixa[faixa]; k < iniciosFaixa[faixa + 1]; k++) {
+                    int i = ordem[k];
+                    int balde = baldes[i];
+                    No novoNo = new No(registros[i]);
+                    if (caudas[balde] == null) {
+                        tabela[balde] = novoNo;
+                    } else {
+                        caudas[balde].proximo = novoNo;
+                        colisoes += tamanhosLista[balde];
+                    }
+                    caudas[balde] = novoNo;
+                    tamanhosLista[balde]++;
+                }
+                colisoesFaixa[faixa] = colisoes;
+                
+                // Primeiro balde b com b * faixas / tamanho == faixa, até o primeiro da próxima
+                int primeiro = (int) (((long) faixa * tamanho + faixas - 1) / faixas);
+                int ultimo = (int) (((long) (faixa + 1) * tamanho + faixas - 1) / faixas);
+                for (int balde = primeiro; balde < ultimo; balde++) {
+                    if (tamanhosLista[balde] > LIMITE_ORDENAR) {
+                        tabela[balde] = new BaldeOrdenado(tabela[balde], tamanhosLista[balde]);
+                    }
+                }
+            }));
+        } finally {
+            pool.shutdown();
+        }
+        
+        long colisoes = 0;
+        for (long colisoesDaFaixa : colisoesFaixa) {
+            colisoes += colisoesDaFaixa;
+        }
+        resultado.colisoes = (int) colisoes;
+        resultado.elementosInseridos = iniciosFaixa[faixas];
+        return resultado;
+    }
+    
+    // Faixas contíguas e disjuntas: a faixa f fica com os baldes b tais que b * faixas / tamanho == f
+    private static int faixaDoBalde(int balde, int faixas, int tamanho) {
+        return (int) ((long) balde * faixas / tamanho);
+    }
+    
+    // Divide [inicio, fim) ao meio até sobrar um item por tarefa
+    private static class TarefaFaixa extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        interface Item {
+            void executar(int indice);
+        }
+        
+        private final int inicio;
+        private final int fim;
+        private final Item item;
+        
+        TarefaFaixa(int inicio, int fim, Item item) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.item = item;
+        }
+        
+        @Override
+        protected void compute() {
+            if (fim - inicio == 1) {
+                item.executar(inicio);
+            } else if (fim > inicio) {
+                int meio = (inicio + fim) >>> 1;
+                invokeAll(new TarefaFaixa(inicio, meio, item), new TarefaFaixa(meio, fim, item));
+            }
+        }
     }
     
     @Override
@@ -27,7 +286,17 @@ public class TabelaHashEncadeamento implements TabelaHash {
             throw new IllegalArgumentException("Registro não pode ser nulo");
         }
         
-        int indice = calcularIndice(registro.getCodigoInt());
+        int indice = funcaoHash.indice(registro.getCodigoInt(), tabela.length);
+        
+        // Num balde ordenado a colisão continua contando os códigos já presentes no balde
+        if (tabela[indice] instanceof BaldeOrdenado) {
+            BaldeOrdenado balde = (BaldeOrdenado) tabela[indice];
+            colisoes += balde.tamanho;
+            balde.adicionar(registro);
+            elementosInseridos++;
+            return true;
+        }
+        
         No novoNo = new No(registro);
         
         if (tabela[indice] == null) {
@@ -43,70 +312,214 @@ public class TabelaHashEncadeamento implements TabelaHash {
             }
             atual.proximo = novoNo;
             colisoes += colisoesNaLista;
+            
+            int tamanhoLista = colisoesNaLista + 2;
+            if (politica == SEM_ORGANIZACAO && tamanhoLista > LIMITE_ORDENAR) {
+                tabela[indice] = new BaldeOrdenado(tabela[indice], tamanhoLista);
+            }
         }
         
         elementosInseridos++;
         return true;
     }
     
-    @Override
-    public Registro buscar(String codigo) {
-        if (codigo == null || codigo.length() != 9) {
-            return null;
-        }
+    // Inserção particionada: o lote é agrupado por faixas de baldes do tamanho da L2 e
+    // entra faixa a faixa. A ordem dentro de cada balde é a do lote, então as listas e
+    // as colisões saem iguais às da inserção na ordem original
+    public int inserirParticionado(Registro[] registros) {
+        int cargaFinal = (int) Math.ceil((double) (elementosInseridos + registros.length) / tabela.length);
+        int particoes = ParticionamentoRadix.calcularParticoes(tabela.length,
+            BYTES_POR_REFERENCIA + (long) cargaFinal * BYTES_POR_NO);
+        Registro[] ordenados = ParticionamentoRadix.particionar(registros,
+            codigo -> funcaoHash.indice(codigo, tabela.length), tabela.length, particoes);
         
-        int codigoInt = Integer.parseInt(codigo);
-        int indice = calcularIndice(codigoInt);
+        int inseridos = 0;
+        for (Registro registro : ordenados) {
+            if (inserir(registro)) {
+                inseridos++;
+            }
+        }
+        return inseridos;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        int indice = funcaoHash.indice(codigo, tabela.length);
         
         No atual = tabela[indice];
+        if (atual instanceof BaldeOrdenado) {
+            return ((BaldeOrdenado) atual).buscar(codigo);
+        }
+        
+        No anterior = null;
         while (atual != null) {
-            if (atual.registro.getCodigo().equals(codigo)) {
-                return atual.registro;
+            if (atual.registro.getCodigoInt() == codigo) {
+                Registro registro = atual.registro;
+                if (politica != SEM_ORGANIZACAO) {
+                    organizar(indice, anterior, atual);
+                }
+                return registro;
             }
+            anterior = atual;
             atual = atual.proximo;
         }
         
         return null;
     }
     
-    private int calcularIndice(int codigo) {
-        switch (funcaoHash) {
-            case "multiplicacao":
-                return hashMultiplicacao(codigo, tabela.length);
-            case "dobramento":
-                return hashDobramento(codigo, tabela.length);
-            case "xorshift":
-                return hashXORShift(codigo, tabela.length);
-            default:
-                return hashMultiplicacao(codigo, tabela.length);
+    // Aproxima da cabeça o nó recém-encontrado, conforme a política da tabela
+    private void organizar(int indice, No anterior, No encontrado) {
+        if (politica == FREQUENCIA) {
+            encontrado.acessos++;
+        }
+        if (anterior == null) {
+            return;
+        }
+        
+        if (politica == MOVER_FRENTE) {
+            anterior.proximo = encontrado.proximo;
+            encontrado.proximo = tabela[indice];
+            tabela[indice] = encontrado;
+        } else if (politica == TRANSPOR) {
+            // Trocar os registros dispensa conhecer o nó antes do anterior
+            Registro registro = anterior.registro;
+            anterior.registro = encontrado.registro;
+            encontrado.registro = registro;
+        } else if (anterior.acessos < encontrado.acessos) {
+            // A lista fica em ordem decrescente de acessos: o nó passa à frente de todos
+            // os que agora têm menos acessos que ele, e só nesse caso a lista é relida
+            No antesDoAlvo = null;
+            No alvo = tabela[indice];
+            while (alvo.acessos >= encontrado.acessos) {
+                antesDoAlvo = alvo;
+                alvo = alvo.proximo;
+            }
+            anterior.proximo = encontrado.proximo;
+            encontrado.proximo = alvo;
+            if (antesDoAlvo == null) {
+                tabela[indice] = encontrado;
+            } else {
+                antesDoAlvo.proximo = encontrado;
+            }
         }
     }
     
-    private int hashMultiplicacao(int key, int tableSize) {
-        double A = (Math.sqrt(5) - 1) / 2;
-        double valor = key * A;
-        valor = valor - Math.floor(valor);
-        return (int) (tableSize * valor);
+    // Quantas comparações de código uma busca por este código faria agora, sem reorganizar
+    // nada. A busca binária conta uma comparação por passo, como Arrays.binarySearch
+    public int comparacoesParaBuscar(int codigo) {
+        No atual = tabela[funcaoHash.indice(codigo, tabela.length)];
+        int comparacoes = 0;
+        
+        if (atual instanceof BaldeOrdenado) {
+            BaldeOrdenado balde = (BaldeOrdenado) atual;
+            int inicio = 0, fim = balde.tamanho - 1;
+            while (inicio <= fim) {
+                int meio = (inicio + fim) >>> 1;
+                comparacoes++;
+                if (balde.codigos[meio] < codigo) inicio = meio + 1;
+                else if (balde.codigos[meio] > codigo) fim = meio - 1;
+                else break;
+            }
+            return comparacoes;
+        }
+        
+        while (atual != null) {
+            comparacoes++;
+            if (atual.registro.getCodigoInt() == codigo) {
+                break;
+            }
+            atual = atual.proximo;
+        }
+        return comparacoes;
     }
     
-    private int hashDobramento(int key, int tableSize) {
-        String keyStr = String.format("%09d", key);
-        int soma = 0;
+    @Override
+    public boolean remover(int codigo) {
+        int indice = funcaoHash.indice(codigo, tabela.length);
         
-        for (int i = 0; i < keyStr.length(); i += 3) {
-            int fim = Math.min(i + 3, keyStr.length());
-            String parte = keyStr.substring(i, fim);
-            soma += Integer.parseInt(parte);
+        if (tabela[indice] instanceof BaldeOrdenado) {
+            BaldeOrdenado balde = (BaldeOrdenado) tabela[indice];
+            int posicao = balde.localizar(codigo);
+            if (posicao < 0) {
+                return false;
+            }
+            
+            balde.removerEm(posicao);
+            if (balde.tamanho < LIMITE_LISTA) {
+                tabela[indice] = balde.paraLista();
+            }
+            elementosInseridos--;
+            return true;
+        }
+        
+        No anterior = null;
+        No atual = tabela[indice];
+        while (atual != null) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                if (anterior == null) {
+                    tabela[indice] = atual.proximo;
+                } else {
+                    anterior.proximo = atual.proximo;
+                }
+                elementosInseridos--;
+                return true;
+            }
+            anterior = atual;
+            atual = atual.proximo;
         }
         
-        return Math.abs(soma % tableSize);
+        return false;
     }
     
-    private int hashXORShift(int key, int tableSize) {
-        key = key ^ (key >>> 16);
-        key = key ^ (key << 8);
-        key = key ^ (key >>> 4);
-        return Math.abs(key % tableSize);
+    @Override
+    public void buscarLote(int[] codigos, Registro[] saida) {
+        buscarIntercalado(codigos, saida, null);
+    }
+    
+    @Override
+    public void contemLote(int[] codigos, boolean[] saida) {
+        buscarIntercalado(codigos, null, saida);
+    }
+    
+    // Primeiro as cabeças de todas as listas do grupo, depois um nó de cada
+    // lista por rodada, para que as faltas de cache se sobreponham. Baldes
+    // ordenados se resolvem já na leitura da cabeça, pela busca binária.
+    // Buscas em lote não reorganizam as listas
+    private void buscarIntercalado(int[] codigos, Registro[] encontrados, boolean[] presentes) {
+        for (int base = 0; base < codigos.length; base += LOTE_INTERCALADO) {
+            int quantidade = Math.min(LOTE_INTERCALADO, codigos.length - base);
+            
+            for (int j = 0; j < quantidade; j++) {
+                cursoresLote[j] = tabela[funcaoHash.indice(codigos[base + j], tabela.length)];
+                if (encontrados != null) encontrados[base + j] = null; else presentes[base + j] = false;
+            }
+            for (int j = 0; j < quantidade; j++) {
+                if (cursoresLote[j] instanceof BaldeOrdenado) {
+                    Registro registro = ((BaldeOrdenado) cursoresLote[j]).buscar(codigos[base + j]);
+                    if (encontrados != null) encontrados[base + j] = registro; else presentes[base + j] = registro != null;
+                    cursoresLote[j] = null;
+                }
+            }
+            
+            int ativos = quantidade;
+            while (ativos > 0) {
+                ativos = 0;
+                for (int j = 0; j < quantidade; j++) {
+                    No atual = cursoresLote[j];
+                    if (atual == null) {
+                        continue;
+                    }
+                    
+                    if (atual.registro.getCodigoInt() == codigos[base + j]) {
+                        if (encontrados != null) encontrados[base + j] = atual.registro; else presentes[base + j] = true;
+                        cursoresLote[j] = null;
+                    } else {
+                        cursoresLote[j] = atual.proximo;
+                        if (atual.proximo != null) ativos++;
+                    }
+                }
+            }
+        }
     }
     
     @Override
@@ -124,30 +537,78 @@ public class TabelaHashEncadeamento implements TabelaHash {
         return elementosInseridos;
     }
     
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        No[] baldes = tabela;
+        return new SpliteratorBaldes((balde, acao) -> {
+            if (baldes[balde] instanceof BaldeOrdenado) {
+                BaldeOrdenado ordenado = (BaldeOrdenado) baldes[balde];
+                for (int i = 0; i < ordenado.tamanho; i++) {
+                    acao.accept(ordenado.registros[i]);
+                }
+                return;
+            }
+            for (No atual = baldes[balde]; atual != null; atual = atual.proximo) {
+                acao.accept(atual.registro);
+            }
+        }, baldes.length, elementosInseridos);
+    }
+    
     @Override
     public Metricas calcularMetricas() {
-        Metricas metricas = new Metricas("Encadeamento", funcaoHash, tabela.length);
+        Metricas metricas = new Metricas("Encadeamento", funcaoHash.getNome(), tabela.length);
         metricas.setColisoes(colisoes);
         metricas.setElementosInseridos(elementosInseridos);
         
         calcularMaioresListas(metricas);
-        calcularGaps(metricas);
+        ResumoGaps.calcular(tabela.length, balde -> tabela[balde] != null, metricas);
         
         return metricas;
     }
     
+    // Cada balde contribui sozinho para as três maiores listas e para a soma de comparações,
+    // então a varredura é uma redução: faixas de baldes resumidas em paralelo e depois juntadas
     private void calcularMaioresListas(Metricas metricas) {
-        int primeira = 0, segunda = 0, terceira = 0;
+        ResumoListas resumo = faixaDeBaldes().collect(ResumoListas::new, this::acumularLista, ResumoListas::juntar);
+        
+        metricas.setMaiorLista(resumo.primeira);
+        metricas.setSegundaMaiorLista(resumo.segunda);
+        metricas.setTerceiraMaiorLista(resumo.terceira);
+        metricas.setComparacoesMediaBusca(elementosInseridos > 0 ? (double) resumo.comparacoes / elementosInseridos : 0);
+        metricas.setBaldesOrdenados(resumo.baldesOrdenados);
+    }
+    
+    private java.util.stream.IntStream faixaDeBaldes() {
+        java.util.stream.IntStream baldes = java.util.stream.IntStream.range(0, tabela.length);
+        return tabela.length >= LIMITE_PARALELO ? baldes.parallel() : baldes;
+    }
+    
+    private void acumularLista(ResumoListas resumo, int balde) {
+        No no = tabela[balde];
+        int tamanhoLista = 0;
         
-        for (No no : tabela) {
-            int tamanhoLista = 0;
+        if (no instanceof BaldeOrdenado) {
+            tamanhoLista = ((BaldeOrdenado) no).tamanho;
+            resumo.comparacoes += comparacoesBuscaBinaria(tamanhoLista);
+            resumo.baldesOrdenados++;
+        } else {
             No atual = no;
-            
             while (atual != null) {
                 tamanhoLista++;
                 atual = atual.proximo;
             }
-            
+            // O i-ésimo nó da lista custa i comparações numa busca bem-sucedida
+            resumo.comparacoes += (long) tamanhoLista * (tamanhoLista + 1) / 2;
+        }
+        resumo.registrar(tamanhoLista);
+    }
+    
+    private static class ResumoListas {
+        int primeira, segunda, terceira;
+        long comparacoes;
+        int baldesOrdenados;
+        
+        void registrar(int tamanhoLista) {
             if (tamanhoLista > primeira) {
                 terceira = segunda;
                 segunda = primeira;
@@ -160,48 +621,22 @@ public class TabelaHashEncadeamento implements TabelaHash {
             }
         }
         
-        metricas.setMaiorLista(primeira);
-        metricas.setSegundaMaiorLista(segunda);
-        metricas.setTerceiraMaiorLista(terceira);
+        void juntar(ResumoListas outro) {
+            registrar(outro.primeira);
+            registrar(outro.segunda);
+            registrar(outro.terceira);
+            comparacoes += outro.comparacoes;
+            baldesOrdenados += outro.baldesOrdenados;
+        }
     }
     
-    private void calcularGaps(Metricas metricas) {
-        int[] gaps = new int[tabela.length];
-        int gapCount = 0;
-        int gapAtual = 0;
-        boolean encontrouPrimeiro = false;
-        
-        for (No no : tabela) {
-            if (no != null) {
-                if (encontrouPrimeiro) {
-                    gaps[gapCount++] = gapAtual;
-                }
-                gapAtual = 0;
-                encontrouPrimeiro = true;
-            } else if (encontrouPrimeiro) {
-                gapAtual++;
-            }
-        }
-        
-        if (gapCount > 0) {
-            int menor = Integer.MAX_VALUE;
-            int maior = Integer.MIN_VALUE;
-            double soma = 0;
-            
-            for (int i = 0; i < gapCount; i++) {
-                int gap = gaps[i];
-                if (gap < menor) menor = gap;
-                if (gap > maior) maior = gap;
-                soma += gap;
-            }
-            
-            metricas.setMenorGap(menor);
-            metricas.setMaiorGap(maior);
-            metricas.setMediaGaps(soma / gapCount);
-        } else {
-            metricas.setMenorGap(0);
-            metricas.setMaiorGap(0);
-            metricas.setMediaGaps(0);
+    // Soma, sobre os códigos do vetor, das comparações da busca binária até cada um:
+    // o do meio custa uma e cada metade repete a conta um nível abaixo
+    private static long comparacoesBuscaBinaria(int tamanho) {
+        if (tamanho == 0) {
+            return 0;
         }
+        int meio = (tamanho - 1) >>> 1;
+        return tamanho + comparacoesBuscaBinaria(meio) + comparacoesBuscaBinaria(tamanho - 1 - meio);
     }
 }
@@ -0,0 +1,236 @@
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Encadeamento seguro para várias threads. Escritas travam só a faixa de baldes do registro;
+// leituras não travam nada: os nós são imutáveis e cada lista é publicada por uma escrita
+// volátil na cabeça do balde, então quem lê sempre percorre uma lista inteira, antiga ou nova.
+// Novos registros entram na cabeça da lista, sem copiar nada
+public class TabelaHashEncadeamentoConcorrente implements TabelaHashConcorrente {
+    // Travas suficientes para duas threads raramente disputarem a mesma faixa
+    private static final int TRAVAS_POR_NUCLEO = 16;
+    
+    private final AtomicReferenceArray<No> tabela;
+    // Só lido e escrito com a trava da faixa do balde
+    private final int[] tamanhosLista;
+    private final ReentrantLock[] travas;
+    private final LongAdder colisoes;
+    private final LongAdder elementosInseridos;
+    private final LongAdder disputas;
+    private final FuncaoHash funcaoHash;
+    
+    private static final class No {
+        final Registro registro;
+        final No proximo;
+        
+        No(Registro registro, No proximo) {
+            this.registro = registro;
+            this.proximo = proximo;
+        }
+    }
+    
+    public TabelaHashEncadeamentoConcorrente(int tamanho, String funcaoHash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash));
+    }
+    
+    public TabelaHashEncadeamentoConcorrente(int tamanho, FuncaoHash funcaoHash) {
+        this(tamanho, funcaoHash, Runtime.getRuntime().availableProcessors() * TRAVAS_POR_NUCLEO);
+    }
+    
+    public TabelaHashEncadeamentoConcorrente(int tamanho, FuncaoHash funcaoHash, int quantidadeTravas) {
+        if (quantidadeTravas < 1) {
+            throw new IllegalArgumentException("Número de travas deve ser positivo");
+        }
+        this.tabela = new AtomicReferenceArray<>(tamanho);
+        this.tamanhosLista = new int[tamanho];
+        this.travas = new ReentrantLock[Math.min(tamanho, quantidadeTravas)];
+        for (int i = 0; i < travas.length; i++) {
+            travas[i] = new ReentrantLock();
+        }
+        this.colisoes = new LongAdder();
+        this.elementosInseridos = new LongAdder();
+        this.disputas = new LongAdder();
+        this.funcaoHash = funcaoHash;
+    }
+    
+    // Faixas contíguas de baldes por trava, como na construção paralela do encadeamento
+    private ReentrantLock travaDoBalde(int balde) {
+        return travas[(int) ((long) balde * travas.length / tamanhosLista.length)];
+    }
+    
+    // Só conta a disputa quando a trava já estava com outra thread
+    private void travar(ReentrantLock trava) {
+        if (!trava.tryLock()) {
+            disputas.increment();
+            trava.lock();
+        }
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        int indice = funcaoHash.indice(registro.getCodigoInt(), tamanhosLista.length);
+        ReentrantLock trava = travaDoBalde(indice);
+        travar(trava);
+        try {
+            // A colisão conta os registros já presentes no balde, como no encadeamento
+            colisoes.add(tamanhosLista[indice]);
+            tabela.set(indice, new No(registro, tabela.get(indice)));
+            tamanhosLista[indice]++;
+        } finally {
+            trava.unlock();
+        }
+        
+        elementosInseridos.increment();
+        return true;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        int indice = funcaoHash.indice(codigo, tamanhosLista.length);
+        
+        for (No atual = tabela.get(indice); atual != null; atual = atual.proximo) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                return atual.registro;
+            }
+        }
+        
+        return null;
+    }
+    
+    // Os nós antes do removido são copiados e a nova lista entra de uma vez; quem já
+    // estava percorrendo a lista antiga termina nela normalmente
+    @Override
+    public boolean remover(int codigo) {
+        int indice = funcaoHash.indice(codigo, tamanhosLista.length);
+        ReentrantLock trava = travaDoBalde(indice);
+        travar(trava);
+        try {
+            No cabeca = tabela.get(indice);
+            int posicao = 0;
+            No removido = cabeca;
+            while (removido != null && removido.registro.getCodigoInt() != codigo) {
+                removido = removido.proximo;
+                posicao++;
+            }
+            if (removido == null) {
+                return false;
+            }
+            
+            Registro[] anteriores = new Registro[posicao];
+            No atual = cabeca;
+            for (int i = 0; i < posicao; i++) {
+                anteriores[i] = atual.registro;
+                atual = atual.proximo;
+            }
+            No novaCabeca = removido.proximo;
+            for (int i = posicao - 1; i >= 0; i--) {
+                novaCabeca = new No(anteriores[i], novaCabeca);
+            }
+            
+            tabela.set(indice, novaCabeca);
+            tamanhosLista[indice]--;
+        } finally {
+            trava.unlock();
+        }
+        
+        elementosInseridos.decrement();
+        return true;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+    
+    @Override
+    public long getDisputas() {
+        return disputas.sum();
+    }
+    
+    @Override
+    public int getTamanho() {
+        return tamanhosLista.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return (int) elementosInseridos.sum();
+    }
+    
+    // Fracamente consistente: cada balde é lido como estava quando o percurso chegou nele
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        return new SpliteratorBaldes((balde, acao) -> {
+            for (No atual = tabela.get(balde); atual != null; atual = atual.proximo) {
+                acao.accept(atual.registro);
+            }
+        }, tamanhosLista.length, elementosInseridos.sum(), false);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("EncadeamentoConcorrente", funcaoHash.getNome(), tamanhosLista.length);
+        metricas.setColisoes(getColisoes());
+        metricas.setElementosInseridos(getElementosInseridos());
+        
+        calcularListasEGaps(metricas);
+        
+        return metricas;
+    }
+    
+    private void calcularListasEGaps(Metricas metricas) {
+        int primeira = 0, segunda = 0, terceira = 0;
+        long comparacoes = 0;
+        long elementos = 0;
+        int menorGap = Integer.MAX_VALUE, maiorGap = 0, gaps = 0;
+        long somaGaps = 0;
+        int gapAtual = 0;
+        boolean encontrouPrimeiro = false;
+        
+        for (int i = 0; i < tamanhosLista.length; i++) {
+            int tamanhoLista = 0;
+            for (No atual = tabela.get(i); atual != null; atual = atual.proximo) {
+                tamanhoLista++;
+            }
+            // O i-ésimo nó da lista custa i comparações numa busca bem-sucedida
+            comparacoes += (long) tamanhoLista * (tamanhoLista + 1) / 2;
+            elementos += tamanhoLista;
+            
+            if (tamanhoLista > primeira) {
+                terceira = segunda;
+                segunda = primeira;
+                primeira = tamanhoLista;
+            } else if (tamanhoLista > segunda) {
+                terceira = segunda;
+                segunda = tamanhoLista;
+            } else if (tamanhoLista > terceira) {
+                terceira = tamanhoLista;
+            }
+            
+            if (tamanhoLista > 0) {
+                if (encontrouPrimeiro) {
+                    menorGap = Math.min(menorGap, gapAtual);
+                    maiorGap = Math.max(maiorGap, gapAtual);
+                    somaGaps += gapAtual;
+                    gaps++;
+                }
+                gapAtual = 0;
+                encontrouPrimeiro = true;
+            } else if (encontrouPrimeiro) {
+                gapAtual++;
+            }
+        }
+        
+        metricas.setMaiorLista(primeira);
+        metricas.setSegundaMaiorLista(segunda);
+        metricas.setTerceiraMaiorLista(terceira);
+        metricas.setComparacoesMediaBusca(elementos > 0 ? (double) comparacoes / elementos : 0);
+        metricas.setMenorGap(gaps > 0 ? menorGap : 0);
+        metricas.setMaiorGap(maiorGap);
+        metricas.setMediaGaps(gaps > 0 ? (double) somaGaps / gaps : 0);
+    }
+}
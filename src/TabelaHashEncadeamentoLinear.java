@@ -0,0 +1,266 @@
+// Hashing linear de Litwin com hash completo H = origem + tamanhoBase * mistura: a função
+// escolhida dá o balde de origem no nível 0 e cada divisão usa mais um bit de uma mistura
+// de 32 bits do código. O endereço no nível i é H mod (tamanhoBase * 2^i), sem teto no
+// número de baldes além do próprio vetor, qualquer que seja a faixa da função escolhida
+public class TabelaHashEncadeamentoLinear implements TabelaHash {
+    private static final double FATOR_CARGA_MAXIMO = 0.75;
+    
+    private No[] tabela;
+    private int tamanhoBase;
+    private int nivel;
+    private int ponteiroDivisao;
+    private int numeroBaldes;
+    private int colisoes;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash;
+    
+    private static class No {
+        Registro registro;
+        int hashBruto;
+        No proximo;
+        
+        No(Registro registro, int hashBruto) {
+            this.registro = registro;
+            this.hashBruto = hashBruto;
+            this.proximo = null;
+        }
+    }
+    
+    public TabelaHashEncadeamentoLinear(int tamanho, String funcaoHash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash));
+    }
+    
+    public TabelaHashEncadeamentoLinear(int tamanho, FuncaoHash funcaoHash) {
+        this.tabela = new No[tamanho];
+        this.tamanhoBase = tamanho;
+        this.nivel = 0;
+        this.ponteiroDivisao = 0;
+        this.numeroBaldes = tamanho;
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash = funcaoHash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        int codigo = registro.getCodigoInt();
+        int hashBruto = misturar(codigo);
+        int indice = enderecar(codigo, hashBruto);
+        No novoNo = new No(registro, hashBruto);
+        
+        if (tabela[indice] == null) {
+            tabela[indice] = novoNo;
+        } else {
+            colisoes++;
+            No atual = tabela[indice];
+            int colisoesNaLista = 0;
+            
+            while (atual.proximo != null) {
+                atual = atual.proximo;
+                colisoesNaLista++;
+            }
+            atual.proximo = novoNo;
+            colisoes += colisoesNaLista;
+        }
+        
+        elementosInseridos++;
+        
+        while (elementosInseridos > numeroBaldes * FATOR_CARGA_MAXIMO) {
+            dividirBalde();
+        }
+        return true;
+    }
+    
+    // Com a estimativa de distintos, as divisões que a carga pediria ao longo
+    // do lote são feitas antes, com os baldes ainda vazios ou curtos
+    @Override
+    public int inserirLote(Registro[] registros) {
+        EstimadorCardinalidade estimador = new EstimadorCardinalidade();
+        for (Registro registro : registros) {
+            if (registro != null) estimador.adicionar(registro.getCodigoInt());
+        }
+        
+        long baldesNecessarios = (long) Math.ceil((elementosInseridos + estimador.estimar()) / FATOR_CARGA_MAXIMO);
+        while (numeroBaldes < baldesNecessarios) {
+            dividirBalde();
+        }
+        
+        int inseridos = 0;
+        for (Registro registro : registros) {
+            if (registro != null && inserir(registro)) {
+                inseridos++;
+            }
+        }
+        return inseridos;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        int indice = enderecar(codigo, misturar(codigo));
+        
+        No atual = tabela[indice];
+        while (atual != null) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                return atual.registro;
+            }
+            atual = atual.proximo;
+        }
+        
+        return null;
+    }
+    
+    // Os baldes já divididos não voltam a se juntar; só o nó sai da lista
+    @Override
+    public boolean remover(int codigo) {
+        int indice = enderecar(codigo, misturar(codigo));
+        
+        No anterior = null;
+        No atual = tabela[indice];
+        while (atual != null) {
+            if (atual.registro.getCodigoInt() == codigo) {
+                if (anterior == null) {
+                    tabela[indice] = atual.proximo;
+                } else {
+                    anterior.proximo = atual.proximo;
+                }
+                elementosInseridos--;
+                return true;
+            }
+            anterior = atual;
+            atual = atual.proximo;
+        }
+        
+        return false;
+    }
+    
+    // Endereçamento em dois níveis: baldes antes do ponteiro já foram divididos
+    private int enderecar(int codigo, int hashBruto) {
+        int origem = funcaoHash.indice(codigo, tamanhoBase);
+        int indice = origem + tamanhoBase * (hashBruto & ((1 << nivel) - 1));
+        if (indice < ponteiroDivisao) {
+            indice = origem + tamanhoBase * (hashBruto & ((1 << (nivel + 1)) - 1));
+        }
+        return indice;
+    }
+    
+    // Finalizador do MurmurHash3: os bits baixos, consumidos um por divisão, dependem de todo o código
+    private static int misturar(int codigo) {
+        int h = codigo;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+    
+    // Divide só o balde apontado, repartindo a lista entre ele e o novo balde
+    private void dividirBalde() {
+        int baldesNoNivel = tamanhoBase << nivel;
+        int novoIndice = ponteiroDivisao + baldesNoNivel;
+        
+        if (novoIndice >= tabela.length) {
+            tabela = java.util.Arrays.copyOf(tabela, tabela.length * 2);
+        }
+        
+        No fica = null, caudaFica = null;
+        No vai = null, caudaVai = null;
+        
+        No atual = tabela[ponteiroDivisao];
+        while (atual != null) {
+            No proximo = atual.proximo;
+            atual.proximo = null;
+            
+            // O bit do nível decide entre ficar e ir para ponteiroDivisao + baldesNoNivel
+            if (((atual.hashBruto >>> nivel) & 1) == 0) {
+                if (caudaFica == null) fica = atual; else caudaFica.proximo = atual;
+                caudaFica = atual;
+            } else {
+                if (caudaVai == null) vai = atual; else caudaVai.proximo = atual;
+                caudaVai = atual;
+            }
+            atual = proximo;
+        }
+        
+        tabela[ponteiroDivisao] = fica;
+        tabela[novoIndice] = vai;
+        numeroBaldes++;
+        
+        ponteiroDivisao++;
+        if (ponteiroDivisao == baldesNoNivel) {
+            nivel++;
+            ponteiroDivisao = 0;
+        }
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return numeroBaldes;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    // Só os baldes já criados pelas divisões; o restante do vetor é folga
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        No[] baldes = tabela;
+        return new SpliteratorBaldes((balde, acao) -> {
+            for (No atual = baldes[balde]; atual != null; atual = atual.proximo) {
+                acao.accept(atual.registro);
+            }
+        }, numeroBaldes, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("EncadeamentoLinear", funcaoHash.getNome(), numeroBaldes);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        
+        calcularMaioresListas(metricas);
+        ResumoGaps.calcular(numeroBaldes, i -> tabela[i] != null, metricas);
+        
+        return metricas;
+    }
+    
+    private void calcularMaioresListas(Metricas metricas) {
+        int primeira = 0, segunda = 0, terceira = 0;
+        
+        for (int i = 0; i < numeroBaldes; i++) {
+            int tamanhoLista = 0;
+            No atual = tabela[i];
+            
+            while (atual != null) {
+                tamanhoLista++;
+                atual = atual.proximo;
+            }
+            
+            if (tamanhoLista > primeira) {
+                terceira = segunda;
+                segunda = primeira;
+                primeira = tamanhoLista;
+            } else if (tamanhoLista > segunda) {
+                terceira = segunda;
+                segunda = tamanhoLista;
+            } else if (tamanhoLista > terceira) {
+                terceira = tamanhoLista;
+            }
+        }
+        
+        metricas.setMaiorLista(primeira);
+        metricas.setSegundaMaiorLista(segunda);
+        metricas.setTerceiraMaiorLista(terceira);
+    }
+}
@@ -0,0 +1,201 @@
+public class TabelaHashEncadeamentoPrimitivo implements TabelaHash {
+    private static final int FIM = -1;
+    
+    // Listas encadeadas por índice: cabecas/caudas por balde, proximos/chaves por nó
+    private int[] cabecas;
+    private int[] caudas;
+    private int[] tamanhosLista;
+    private int[] proximos;
+    private int[] chaves;
+    private int colisoes;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash;
+    
+    public TabelaHashEncadeamentoPrimitivo(int tamanho, String funcaoHash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash));
+    }
+    
+    public TabelaHashEncadeamentoPrimitivo(int tamanho, FuncaoHash funcaoHash) {
+        this.cabecas = new int[tamanho];
+        this.caudas = new int[tamanho];
+        this.tamanhosLista = new int[tamanho];
+        java.util.Arrays.fill(cabecas, FIM);
+        java.util.Arrays.fill(caudas, FIM);
+        this.proximos = new int[Math.max(16, tamanho)];
+        this.chaves = new int[proximos.length];
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash = funcaoHash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        if (elementosInseridos == chaves.length) {
+            aumentarPool();
+        }
+        
+        int indice = funcaoHash.indice(registro.getCodigoInt(), cabecas.length);
+        int novoNo = elementosInseridos;
+        chaves[novoNo] = registro.getCodigoInt();
+        proximos[novoNo] = FIM;
+        
+        if (cabecas[indice] == FIM) {
+            cabecas[indice] = novoNo;
+        } else {
+            // Mesma contagem do encadeamento com nós: um por elemento já na lista
+            colisoes += tamanhosLista[indice];
+            proximos[caudas[indice]] = novoNo;
+        }
+        caudas[indice] = novoNo;
+        tamanhosLista[indice]++;
+        
+        elementosInseridos++;
+        return true;
+    }
+    
+    // O último nó do pool ocupa o lugar do removido, mantendo o pool denso
+    // (o próximo nó livre continua sendo o de índice elementosInseridos)
+    @Override
+    public boolean remover(int codigo) {
+        int indice = funcaoHash.indice(codigo, cabecas.length);
+        int no = desligar(indice, codigo);
+        if (no == FIM) {
+            return false;
+        }
+        
+        int ultimo = elementosInseridos - 1;
+        if (no != ultimo) {
+            int baldeUltimo = funcaoHash.indice(chaves[ultimo], cabecas.length);
+            if (cabecas[baldeUltimo] == ultimo) {
+                cabecas[baldeUltimo] = no;
+            } else {
+                int anterior = cabecas[baldeUltimo];
+                while (proximos[anterior] != ultimo) {
+                    anterior = proximos[anterior];
+                }
+                proximos[anterior] = no;
+            }
+            if (caudas[baldeUltimo] == ultimo) {
+                caudas[baldeUltimo] = no;
+            }
+            chaves[no] = chaves[ultimo];
+            proximos[no] = proximos[ultimo];
+        }
+        
+        elementosInseridos--;
+        return true;
+    }
+    
+    // Tira o nó com o código da lista do balde e devolve seu índice, ou FIM
+    private int desligar(int balde, int codigo) {
+        int anterior = FIM;
+        int atual = cabecas[balde];
+        while (atual != FIM) {
+            if (chaves[atual] == codigo) {
+                if (anterior == FIM) {
+                    cabecas[balde] = proximos[atual];
+                } else {
+                    proximos[anterior] = proximos[atual];
+                }
+                if (caudas[balde] == atual) {
+                    caudas[balde] = anterior;
+                }
+                tamanhosLista[balde]--;
+                return atual;
+            }
+            anterior = atual;
+            atual = proximos[atual];
+        }
+        return FIM;
+    }
+    
+    private void aumentarPool() {
+        int novoTamanho = chaves.length * 2;
+        proximos = java.util.Arrays.copyOf(proximos, novoTamanho);
+        chaves = java.util.Arrays.copyOf(chaves, novoTamanho);
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        return contem(codigo) ? new Registro(codigo) : null;
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        int indice = funcaoHash.indice(codigo, cabecas.length);
+        
+        int atual = cabecas[indice];
+        while (atual != FIM) {
+            if (chaves[atual] == codigo) {
+                return true;
+            }
+            atual = proximos[atual];
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return cabecas.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        int[] cabecasBaldes = cabecas;
+        int[] proximosNos = proximos;
+        int[] chavesNos = chaves;
+        return new SpliteratorBaldes((balde, acao) -> {
+            for (int no = cabecasBaldes[balde]; no != FIM; no = proximosNos[no]) {
+                acao.accept(new Registro(chavesNos[no]));
+            }
+        }, cabecasBaldes.length, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("EncadeamentoPrimitivo", funcaoHash.getNome(), cabecas.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        
+        calcularMaioresListas(metricas);
+        ResumoGaps.calcular(cabecas.length, i -> cabecas[i] != FIM, metricas);
+        
+        return metricas;
+    }
+    
+    private void calcularMaioresListas(Metricas metricas) {
+        int primeira = 0, segunda = 0, terceira = 0;
+        
+        for (int tamanhoLista : tamanhosLista) {
+            if (tamanhoLista > primeira) {
+                terceira = segunda;
+                segunda = primeira;
+                primeira = tamanhoLista;
+            } else if (tamanhoLista > segunda) {
+                terceira = segunda;
+                segunda = tamanhoLista;
+            } else if (tamanhoLista > terceira) {
+                terceira = tamanhoLista;
+            }
+        }
+        
+        metricas.setMaiorLista(primeira);
+        metricas.setSegundaMaiorLista(segunda);
+        metricas.setTerceiraMaiorLista(terceira);
+    }
+}
@@ -0,0 +1,199 @@
+public class TabelaHashHopscotch implements TabelaHash {
+    private static final int VAZIO = -1;
+    private static final int VIZINHANCA = 32;
+    private static final int MAX_TENTATIVAS = 1000;
+    
+    // saltos[b] tem o bit i ligado quando a posição b + i guarda um código cuja origem é b
+    private int[] chaves;
+    private int[] saltos;
+    private int colisoes;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash;
+    private double fatorCargaMaximo;
+    
+    public TabelaHashHopscotch(int tamanho, String funcaoHash) {
+        this(tamanho, funcaoHash, 1.0);
+    }
+    
+    public TabelaHashHopscotch(int tamanho, String funcaoHash, double fatorCargaMaximo) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash), fatorCargaMaximo);
+    }
+    
+    public TabelaHashHopscotch(int tamanho, FuncaoHash funcaoHash, double fatorCargaMaximo) {
+        if (fatorCargaMaximo <= 0 || fatorCargaMaximo > 1) {
+            throw new IllegalArgumentException("Fator de carga deve estar entre 0 e 1");
+        }
+        this.chaves = new int[tamanho];
+        this.saltos = new int[tamanho];
+        java.util.Arrays.fill(chaves, VAZIO);
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash = funcaoHash;
+        this.fatorCargaMaximo = fatorCargaMaximo;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        if (elementosInseridos >= chaves.length * fatorCargaMaximo) {
+            return false;
+        }
+        
+        int codigo = registro.getCodigoInt();
+        int origem = funcaoHash.indice(codigo, chaves.length);
+        if (localizar(codigo, origem) >= 0) {
+            return false;
+        }
+        
+        // Sondagem linear até a primeira posição livre
+        int livre = origem;
+        int distancia = 0;
+        while (chaves[livre] != VAZIO) {
+            colisoes++;
+            distancia++;
+            if (distancia >= Math.min(MAX_TENTATIVAS, chaves.length)) {
+                return false;
+            }
+            livre = (livre + 1) % chaves.length;
+        }
+        
+        // Traz a posição livre para dentro da vizinhança, trocando-a com
+        // códigos que podem andar para frente sem sair da própria vizinhança
+        while (distancia >= VIZINHANCA) {
+            int novaLivre = aproximarLivre(livre);
+            if (novaLivre < 0) {
+                return false;
+            }
+            distancia -= distanciaCircular(novaLivre, livre);
+            livre = novaLivre;
+        }
+        
+        chaves[livre] = codigo;
+        saltos[origem] |= 1 << distancia;
+        elementosInseridos++;
+        return true;
+    }
+    
+    private int aproximarLivre(int livre) {
+        for (int k = VIZINHANCA - 1; k > 0; k--) {
+            int candidato = (livre - k + chaves.length) % chaves.length;
+            int mapa = saltos[candidato];
+            
+            // Só servem códigos antes da posição livre (bits abaixo de k)
+            int movel = mapa & ((1 << k) - 1);
+            if (movel != 0) {
+                int bit = Integer.numberOfTrailingZeros(movel);
+                int posicao = (candidato + bit) % chaves.length;
+                
+                chaves[livre] = chaves[posicao];
+                chaves[posicao] = VAZIO;
+                saltos[candidato] = (mapa & ~(1 << bit)) | (1 << k);
+                return posicao;
+            }
+        }
+        return -1;
+    }
+    
+    private int distanciaCircular(int de, int ate) {
+        return (ate - de + chaves.length) % chaves.length;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        return contem(codigo) ? new Registro(codigo) : null;
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        return localizar(codigo, funcaoHash.indice(codigo, chaves.length)) >= 0;
+    }
+    
+    @Override
+    public boolean remover(int codigo) {
+        int origem = funcaoHash.indice(codigo, chaves.length);
+        int posicao = localizar(codigo, origem);
+        if (posicao < 0) {
+            return false;
+        }
+        
+        chaves[posicao] = VAZIO;
+        saltos[origem] &= ~(1 << distanciaCircular(origem, posicao));
+        elementosInseridos--;
+        return true;
+    }
+    
+    // Só as posições marcadas no mapa da origem são visitadas, todas a menos de VIZINHANCA passos
+    private int localizar(int codigo, int origem) {
+        int mapa = saltos[origem];
+        while (mapa != 0) {
+            int bit = Integer.numberOfTrailingZeros(mapa);
+            int posicao = (origem + bit) % chaves.length;
+            if (chaves[posicao] == codigo) {
+                return posicao;
+            }
+            mapa &= mapa - 1;
+        }
+        return -1;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return chaves.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        int[] slots = chaves;
+        return new SpliteratorBaldes((slot, acao) -> {
+            if (slots[slot] != VAZIO) {
+                acao.accept(new Registro(slots[slot]));
+            }
+        }, slots.length, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("Hopscotch", funcaoHash.getNome(), chaves.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        
+        metricas.setMaiorLista(1);
+        metricas.setSegundaMaiorLista(1);
+        metricas.setTerceiraMaiorLista(1);
+        
+        ResumoGaps.calcular(chaves.length, i -> chaves[i] != VAZIO, metricas);
+        calcularDeslocamentos(metricas);
+        
+        return metricas;
+    }
+    
+    private void calcularDeslocamentos(Metricas metricas) {
+        long soma = 0;
+        int maior = 0;
+        
+        for (int mapa : saltos) {
+            while (mapa != 0) {
+                int deslocamento = Integer.numberOfTrailingZeros(mapa);
+                soma += deslocamento;
+                if (deslocamento > maior) maior = deslocamento;
+                mapa &= mapa - 1;
+            }
+        }
+        
+        metricas.setDeslocamentoMaximo(maior);
+        metricas.setDeslocamentoMedio(elementosInseridos > 0 ? (double) soma / elementosInseridos : 0);
+    }
+}
@@ -0,0 +1,297 @@
+public class TabelaHashPrimitiva implements TabelaHash {
+    private static final int VAZIO = -1;
+    // Removido vira marcador: a busca passa por ele, a inserção pode reaproveitá-lo
+    private static final int REMOVIDO = -2;
+    private static final int MAX_TENTATIVAS = 1000;
+    private static final double FATOR_CARGA_MAXIMO = 0.75;
+    private static final double LIMITE_REMOVIDOS = 0.2;
+    private static final int AMOSTRA_MAL_SUCEDIDA = 10000;
+    
+    private int[] chaves;
+    private int removidos;
+    private int colisoes;
+    private int elementosInseridos;
+    private FuncaoHash funcaoHash;
+    private String tipoRehash;
+    
+    public TabelaHashPrimitiva(int tamanho, String funcaoHash, String tipoRehash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash), tipoRehash);
+    }
+    
+    public TabelaHashPrimitiva(int tamanho, FuncaoHash funcaoHash, String tipoRehash) {
+        this.chaves = new int[tamanho];
+        java.util.Arrays.fill(chaves, VAZIO);
+        this.removidos = 0;
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.funcaoHash = funcaoHash;
+        this.tipoRehash = tipoRehash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        // Marcadores alongam a sondagem como chaves vivas, então contam para a carga
+        if (elementosInseridos + removidos >= chaves.length * FATOR_CARGA_MAXIMO) {
+            if (removidos == 0) {
+                return false;
+            }
+            compactar();
+            if (elementosInseridos >= chaves.length * FATOR_CARGA_MAXIMO) {
+                return false;
+            }
+        }
+        
+        return inserirCodigo(registro.getCodigoInt(), MAX_TENTATIVAS);
+    }
+    
+    // A posição escolhida fica nas primeiras "limite" sondagens, mas a procura por duplicata
+    // segue até uma posição vazia, como a busca: a compactação, que não tem limite, pode ter
+    // posto um código além dele
+    private boolean inserirCodigo(int codigo, int limite) {
+        int tentativa = 0;
+        int reaproveitavel = -1;
+        int indice;
+        
+        do {
+            indice = calcularIndice(codigo, tentativa);
+            
+            if (chaves[indice] == VAZIO) {
+                // O código não está adiante; o primeiro marcador do caminho tem preferência
+                if (reaproveitavel < 0 && tentativa >= limite) {
+                    return false;
+                }
+                ocupar(reaproveitavel >= 0 ? reaproveitavel : indice, codigo);
+                return true;
+            } else if (chaves[indice] == codigo) {
+                return false;
+            } else {
+                if (chaves[indice] == REMOVIDO && reaproveitavel < 0 && tentativa < limite) {
+                    reaproveitavel = indice;
+                }
+                colisoes++;
+                tentativa++;
+            }
+            
+        } while (tentativa < chaves.length);
+        
+        if (reaproveitavel >= 0) {
+            ocupar(reaproveitavel, codigo);
+            return true;
+        }
+        return false;
+    }
+    
+    private void ocupar(int indice, int codigo) {
+        if (chaves[indice] == REMOVIDO) {
+            removidos--;
+        }
+        chaves[indice] = codigo;
+        elementosInseridos++;
+    }
+    
+    @Override
+    public boolean remover(int codigo) {
+        int indice = localizar(codigo);
+        if (indice < 0) {
+            return false;
+        }
+        
+        chaves[indice] = REMOVIDO;
+        removidos++;
+        elementosInseridos--;
+        
+        if (removidos > chaves.length * LIMITE_REMOVIDOS) {
+            compactar();
+        }
+        return true;
+    }
+    
+    // Reinsere os códigos vivos num vetor limpo, descartando os marcadores. O tamanho só é
+    // arredondado para primo, para a sondagem dupla não cair em ciclos curtos na reinserção.
+    // A reinserção sonda sem limite; se ainda assim algum código não couber (a quadrática
+    // só alcança metade das posições), recomeça com o dobro em vez de perdê-lo
+    private void compactar() {
+        int[] antigas = chaves;
+        int tamanho = proximoPrimo(antigas.length);
+        int colisoesAntes = colisoes;
+        boolean completa;
+        
+        do {
+            chaves = new int[tamanho];
+            java.util.Arrays.fill(chaves, VAZIO);
+            elementosInseridos = 0;
+            removidos = 0;
+            completa = true;
+            for (int chave : antigas) {
+                if (chave >= 0 && !inserirCodigo(chave, chaves.length)) {
+                    completa = false;
+                    break;
+                }
+            }
+            tamanho = proximoPrimo(tamanho * 2);
+        } while (!completa);
+        colisoes = colisoesAntes;
+    }
+    
+    private static int proximoPrimo(int n) {
+        int candidato = n | 1;
+        while (!ehPrimo(candidato)) {
+            candidato += 2;
+        }
+        return candidato;
+    }
+    
+    private static boolean ehPrimo(int n) {
+        if (n < 2) return false;
+        if (n % 2 == 0) return n == 2;
+        for (int d = 3; (long) d * d <= n; d += 2) {
+            if (n % d == 0) return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        // O Registro só é criado na saída; a tabela guarda apenas o código
+        return contem(codigo) ? new Registro(codigo) : null;
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        return localizar(codigo) >= 0;
+    }
+    
+    // Vai até uma posição vazia: depois de uma compactação o código pode estar além de MAX_TENTATIVAS.
+    // Códigos negativos nunca são guardados e coincidiriam com VAZIO ou REMOVIDO
+    private int localizar(int codigo) {
+        if (codigo < 0) {
+            return -1;
+        }
+        
+        int tentativa = 0;
+        int indice;
+        
+        do {
+            indice = calcularIndice(codigo, tentativa);
+            
+            if (chaves[indice] == VAZIO) {
+                return -1;
+            } else if (chaves[indice] == codigo) {
+                return indice;
+            }
+            
+            tentativa++;
+            
+        } while (tentativa < chaves.length);
+        return -1;
+    }
+    
+    private int calcularIndice(int codigo, int tentativa) {
+        int hash = funcaoHash.indice(codigo, chaves.length);
+        
+        switch (tipoRehash) {
+            case "linear":
+                return rehashLinear(hash, tentativa, chaves.length);
+            case "quadratico":
+                return rehashQuadratico(hash, tentativa, chaves.length);
+            case "duplo":
+                return rehashDuplo(codigo, hash, tentativa, chaves.length);
+            default:
+                return rehashLinear(hash, tentativa, chaves.length);
+        }
+    }
+    
+    private int rehashLinear(int hash, int tentativa, int tableSize) {
+        return (hash + tentativa) % tableSize;
+    }
+    
+    private int rehashQuadratico(int hash, int tentativa, int tableSize) {
+        return (int) ((hash + (long) tentativa * tentativa) % tableSize);
+    }
+    
+    private int rehashDuplo(int key, int hash1, int tentativa, int tableSize) {
+        int hash2 = 1 + (key % (tableSize - 1));
+        return (int) ((hash1 + (long) tentativa * hash2) % tableSize);
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return chaves.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    // Marcadores e slots livres têm código negativo
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        int[] slots = chaves;
+        return new SpliteratorBaldes((slot, acao) -> {
+            if (slots[slot] >= 0) {
+                acao.accept(new Registro(slots[slot]));
+            }
+        }, slots.length, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("Primitiva-" + tipoRehash, funcaoHash.getNome(), chaves.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        metricas.setMarcadoresRemocao(removidos);
+        
+        metricas.setMaiorLista(1);
+        metricas.setSegundaMaiorLista(1);
+        metricas.setTerceiraMaiorLista(1);
+        
+        ResumoGaps.calcular(chaves.length, i -> chaves[i] >= 0, metricas);
+        calcularSondagemMalSucedida(metricas);
+        
+        return metricas;
+    }
+    
+    // Posições visitadas por buscas de códigos sorteados até a sondagem parar,
+    // contando os marcadores que a busca sem sucesso precisa atravessar
+    private void calcularSondagemMalSucedida(Metricas metricas) {
+        java.util.Random random = new java.util.Random(AMOSTRA_MAL_SUCEDIDA);
+        int limite = chaves.length;
+        long soma = 0;
+        int amostras = 0;
+        
+        for (int i = 0; i < AMOSTRA_MAL_SUCEDIDA; i++) {
+            int codigo = random.nextInt(1000000000);
+            int tentativa = 0;
+            boolean encontrado = false;
+            
+            while (tentativa < limite) {
+                int chave = chaves[calcularIndice(codigo, tentativa)];
+                tentativa++;
+                if (chave == VAZIO) {
+                    break;
+                }
+                if (chave == codigo) {
+                    encontrado = true;
+                    break;
+                }
+            }
+            
+            if (!encontrado) {
+                soma += tentativa;
+                amostras++;
+            }
+        }
+        
+        metricas.setSondagemMediaMalSucedida(amostras > 0 ? (double) soma / amostras : 0);
+    }
+}
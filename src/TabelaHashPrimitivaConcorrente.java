@@ -0,0 +1,230 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Endereçamento aberto sem travas sobre um int[] de códigos, com a mesma sondagem da
+// TabelaHashPrimitiva. A inserção reserva a posição vazia com compareAndSet e a busca só faz
+// leituras com semântica de aquisição. Uma posição ocupada nunca volta a ficar vazia: a
+// remoção troca o código pelo marcador, e marcadores não são reaproveitados, porque duas
+// inserções do mesmo código poderiam ocupar um marcador e uma posição vazia mais adiante
+public class TabelaHashPrimitivaConcorrente implements TabelaHashConcorrente {
+    private static final int VAZIO = -1;
+    private static final int REMOVIDO = -2;
+    private static final int MAX_TENTATIVAS = 1000;
+    private static final double FATOR_CARGA_MAXIMO = 0.75;
+    private static final int AMOSTRA_MAL_SUCEDIDA = 10000;
+    private static final VarHandle CHAVES = MethodHandles.arrayElementVarHandle(int[].class);
+    
+    private final int[] chaves;
+    // Posições já tomadas, vivas ou marcadores; limitadas pela carga máxima
+    private final AtomicInteger ocupadas;
+    private final int limiteOcupadas;
+    private final LongAdder colisoes;
+    private final LongAdder elementosInseridos;
+    private final LongAdder removidos;
+    private final LongAdder disputas;
+    private final FuncaoHash funcaoHash;
+    private final String tipoRehash;
+    
+    public TabelaHashPrimitivaConcorrente(int tamanho, String funcaoHash, String tipoRehash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash), tipoRehash);
+    }
+    
+    public TabelaHashPrimitivaConcorrente(int tamanho, FuncaoHash funcaoHash, String tipoRehash) {
+        this.chaves = new int[tamanho];
+        java.util.Arrays.fill(chaves, VAZIO);
+        this.ocupadas = new AtomicInteger();
+        this.limiteOcupadas = (int) (tamanho * FATOR_CARGA_MAXIMO);
+        this.colisoes = new LongAdder();
+        this.elementosInseridos = new LongAdder();
+        this.removidos = new LongAdder();
+        this.disputas = new LongAdder();
+        this.funcaoHash = funcaoHash;
+        this.tipoRehash = tipoRehash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        // Reserva a posição antes de procurar; devolvida se o código já estiver lá
+        if (ocupadas.incrementAndGet() > limiteOcupadas) {
+            ocupadas.decrementAndGet();
+            return false;
+        }
+        
+        int codigo = registro.getCodigoInt();
+        int hash = funcaoHash.indice(codigo, chaves.length);
+        int limite = Math.min(MAX_TENTATIVAS, chaves.length);
+        int colisoesDaInsercao = 0;
+        
+        for (int tentativa = 0; tentativa < limite; tentativa++) {
+            int indice = calcularIndice(codigo, hash, tentativa);
+            int chave = (int) CHAVES.getAcquire(chaves, indice);
+            
+            if (chave == VAZIO) {
+                chave = (int) CHAVES.compareAndExchange(chaves, indice, VAZIO, codigo);
+                if (chave == VAZIO) {
+                    colisoes.add(colisoesDaInsercao);
+                    elementosInseridos.increment();
+                    return true;
+                }
+                // Outra thread ocupou a posição primeiro; se foi com o mesmo código, já existe
+                disputas.increment();
+            }
+            if (chave == codigo) {
+                break;
+            }
+            colisoesDaInsercao++;
+        }
+        
+        colisoes.add(colisoesDaInsercao);
+        ocupadas.decrementAndGet();
+        return false;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        return contem(codigo) ? new Registro(codigo) : null;
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        return localizar(codigo) >= 0;
+    }
+    
+    private int localizar(int codigo) {
+        // Códigos negativos nunca são guardados e coincidiriam com VAZIO ou REMOVIDO
+        if (codigo < 0) {
+            return -1;
+        }
+        
+        int hash = funcaoHash.indice(codigo, chaves.length);
+        int limite = Math.min(MAX_TENTATIVAS, chaves.length);
+        
+        for (int tentativa = 0; tentativa < limite; tentativa++) {
+            int indice = calcularIndice(codigo, hash, tentativa);
+            int chave = (int) CHAVES.getAcquire(chaves, indice);
+            if (chave == VAZIO) {
+                return -1;
+            } else if (chave == codigo) {
+                return indice;
+            }
+        }
+        return -1;
+    }
+    
+    // Só quem troca o código pelo marcador conta a remoção; um código aparece no máximo
+    // uma vez na sondagem, então remoções concorrentes dele disputam a mesma posição
+    @Override
+    public boolean remover(int codigo) {
+        int indice = localizar(codigo);
+        if (indice < 0) {
+            return false;
+        }
+        if (!CHAVES.compareAndSet(chaves, indice, codigo, REMOVIDO)) {
+            disputas.increment();
+            return false;
+        }
+        
+        removidos.increment();
+        elementosInseridos.decrement();
+        return true;
+    }
+    
+    private int calcularIndice(int codigo, int hash, int tentativa) {
+        switch (tipoRehash) {
+            case "quadratico":
+                return (int) ((hash + (long) tentativa * tentativa) % chaves.length);
+            case "duplo":
+                int hash2 = 1 + (codigo % (chaves.length - 1));
+                return (int) ((hash + (long) tentativa * hash2) % chaves.length);
+            default:
+                return (hash + tentativa) % chaves.length;
+        }
+    }
+    
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+    
+    @Override
+    public long getDisputas() {
+        return disputas.sum();
+    }
+    
+    @Override
+    public int getTamanho() {
+        return chaves.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return (int) elementosInseridos.sum();
+    }
+    
+    // Fracamente consistente: cada posição é lida uma vez, como estava naquele momento
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        return new SpliteratorBaldes((slot, acao) -> {
+            int chave = (int) CHAVES.getAcquire(chaves, slot);
+            if (chave >= 0) {
+                acao.accept(new Registro(chave));
+            }
+        }, chaves.length, elementosInseridos.sum(), false);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("PrimitivaConcorrente-" + tipoRehash, funcaoHash.getNome(), chaves.length);
+        metricas.setColisoes(getColisoes());
+        metricas.setElementosInseridos(getElementosInseridos());
+        metricas.setMarcadoresRemocao((int) removidos.sum());
+        
+        metricas.setMaiorLista(1);
+        metricas.setSegundaMaiorLista(1);
+        metricas.setTerceiraMaiorLista(1);
+        
+        ResumoGaps.calcular(chaves.length, i -> (int) CHAVES.getAcquire(chaves, i) >= 0, metricas);
+        calcularSondagemMalSucedida(metricas);
+        
+        return metricas;
+    }
+    
+    private void calcularSondagemMalSucedida(Metricas metricas) {
+        java.util.Random random = new java.util.Random(AMOSTRA_MAL_SUCEDIDA);
+        int limite = Math.min(MAX_TENTATIVAS, chaves.length);
+        long soma = 0;
+        int amostras = 0;
+        
+        for (int i = 0; i < AMOSTRA_MAL_SUCEDIDA; i++) {
+            int codigo = random.nextInt(1000000000);
+            int hash = funcaoHash.indice(codigo, chaves.length);
+            int tentativa = 0;
+            boolean encontrado = false;
+            
+            while (tentativa < limite) {
+                int chave = (int) CHAVES.getAcquire(chaves, calcularIndice(codigo, hash, tentativa));
+                tentativa++;
+                if (chave == VAZIO) {
+                    break;
+                }
+                if (chave == codigo) {
+                    encontrado = true;
+                    break;
+                }
+            }
+            
+            if (!encontrado) {
+                soma += tentativa;
+                amostras++;
+            }
+        }
+        
+        metricas.setSondagemMediaMalSucedida(amostras > 0 ? (double) soma / amostras : 0);
+    }
+}
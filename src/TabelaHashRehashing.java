@@ -2,16 +2,82 @@ public class TabelaHashRehashing implements TabelaHash {
     private Registro[] tabela;
     private int colisoes;
     private int elementosInseridos;
-    private String funcaoHash;
+    private FuncaoHash funcaoHash;
     private String tipoRehash;
     private static final int MAX_TENTATIVAS = 1000;
+    private static final double FATOR_CARGA_PADRAO = 0.75;
+    // Cada passo da migração leva até PASSO_MIGRACAO entradas, olhando no máximo
+    // VARREDURA_MIGRACAO posições: numa tabela esparsa (encolhendo) as vazias custam pouco
+    private static final int PASSO_MIGRACAO = 4;
+    private static final int VARREDURA_MIGRACAO = 64;
+    private static final int LOTE_INTERCALADO = 16;
+    // Folga sobre a estimativa de distintos, cerca de três erros padrão do HyperLogLog
+    private static final double FOLGA_ESTIMATIVA = 1.025;
+    // Acima desta fração de marcadores a tabela é reconstruída no mesmo tamanho
+    private static final double LIMITE_REMOVIDOS = 0.2;
+    private static final int AMOSTRA_MAL_SUCEDIDA = 10000;
+    private static final int LIMITE_PARALELO = 100000;
+    // Memória por posição para o particionamento: a referência e o Registro apontado
+    private static final int BYTES_POR_REFERENCIA = 4;
+    private static final int BYTES_POR_REGISTRO = 24;
+    // Marcador de remoção: comparado por referência antes de qualquer leitura do código
+    private static final Registro REMOVIDO = new Registro(0);
+    private double fatorCargaMaximo;
+    private int tamanhoInicial;
+    private int removidos;
+    private int compactacoes;
+    
+    // Robin Hood: distância de cada entrada até a posição de origem (sondagem linear)
+    private boolean robinHood;
+    private int[] distancias;
+    
+    // Modo redimensionável: ao atingir a carga máxima a tabela dobra e os
+    // elementos da tabela antiga migram aos poucos, a cada inserção ou busca
+    private boolean redimensionavel;
+    private Registro[] tabelaAntiga;
+    private int[] distanciasAntigas;
+    private int indiceMigracao;
+    private int redimensionamentos;
+    
+    // Rascunho das buscas em lote, reaproveitado entre chamadas
+    private int[] hashesLote;
+    private Registro[] candidatosLote;
     
     public TabelaHashRehashing(int tamanho, String funcaoHash, String tipoRehash) {
+        this(tamanho, funcaoHash, tipoRehash, false);
+    }
+    
+    public TabelaHashRehashing(int tamanho, String funcaoHash, String tipoRehash, boolean redimensionavel) {
+        this(tamanho, funcaoHash, tipoRehash, redimensionavel, FATOR_CARGA_PADRAO);
+    }
+    
+    public TabelaHashRehashing(int tamanho, String funcaoHash, String tipoRehash, boolean redimensionavel,
+                               double fatorCargaMaximo) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash), tipoRehash, redimensionavel, fatorCargaMaximo);
+    }
+    
+    public TabelaHashRehashing(int tamanho, FuncaoHash funcaoHash, String tipoRehash, boolean redimensionavel,
+                               double fatorCargaMaximo) {
+        if (fatorCargaMaximo <= 0 || fatorCargaMaximo >= 1) {
+            throw new IllegalArgumentException("Fator de carga deve estar entre 0 e 1");
+        }
         this.tabela = new Registro[tamanho];
+        this.tamanhoInicial = tamanho;
         this.colisoes = 0;
         this.elementosInseridos = 0;
         this.funcaoHash = funcaoHash;
         this.tipoRehash = tipoRehash;
+        this.redimensionavel = redimensionavel;
+        // Com tamanho primo, a sondagem quadrática só tem posição livre garantida abaixo de
+        // metade da carga; o modo redimensionável não recusa inserções, então cresce antes
+        this.fatorCargaMaximo = redimensionavel && tipoRehash.equals("quadratico")
+            ? Math.min(fatorCargaMaximo, 0.5) : fatorCargaMaximo;
+        this.robinHood = tipoRehash.equals("robinhood");
+        if (robinHood) {
+            this.distancias = new int[tamanho];
+        }
+        this.hashesLote = new int[LOTE_INTERCALADO];
+        this.candidatosLote = new Registro[LOTE_INTERCALADO];
     }
     
     @Override
@@ -20,114 +86,541 @@ public class TabelaHashRehashing implements TabelaHash {
             throw new IllegalArgumentException("Registro não pode ser nulo");
         }
         
-        if (elementosInseridos >= tabela.length * 0.75) {
-            return false;
+        // Marcadores alongam a sondagem como chaves vivas, então contam para a carga
+        if (redimensionavel) {
+            migrarPasso();
+            if (elementosInseridos + removidos >= tabela.length * fatorCargaMaximo) {
+                if (tabelaAntiga != null) {
+                    // Abrir outra migração exigiria concluir esta de uma vez; em vez disso ela acelera
+                    migrarPasso();
+                    migrarPasso();
+                } else if (elementosInseridos < tabela.length * fatorCargaMaximo / 2) {
+                    // Se boa parte da carga é de marcadores, basta limpar no mesmo tamanho
+                    iniciarMigracao(proximoPrimo(tabela.length));
+                    compactacoes++;
+                } else {
+                    iniciarRedimensionamento();
+                }
+            }
+            if (tabelaAntiga != null && buscarEm(tabelaAntiga, distanciasAntigas, registro.getCodigoInt()) != null) {
+                return false;
+            }
+        } else if (elementosInseridos + removidos >= tabela.length * fatorCargaMaximo) {
+            if (removidos == 0) {
+                return false;
+            }
+            compactar();
+            if (elementosInseridos >= tabela.length * fatorCargaMaximo) {
+                return false;
+            }
+        }
+        
+        return inserirDireto(registro) || crescerEInserir(registro);
+    }
+    
+    // A inserção direta falhou: ou o código já está na tabela, ou não houve posição dentro do
+    // limite de sondagem. No modo fixo isso recusa a inserção; no redimensionável a tabela
+    // cresce e tenta de novo, e o registro nunca fica de fora
+    private boolean crescerEInserir(Registro registro) {
+        while (redimensionavel && buscarEm(tabela, distancias, registro.getCodigoInt()) == null) {
+            iniciarRedimensionamento();
+            if (inserirDireto(registro)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Inserção em lote: no modo redimensionável a tabela é dimensionada uma única vez
+    // pela estimativa de distintos, e as verificações de carga e de migração
+    // saem do caminho de cada registro enquanto houver espaço garantido
+    @Override
+    public int inserirLote(Registro[] registros) {
+        dimensionarParaLote(registros);
+        return inserirEmOrdem(registros);
+    }
+    
+    // Inserção particionada: o lote é agrupado por faixas de posições do tamanho da L2 e
+    // entra faixa a faixa, para a sondagem de cada fase ficar na cache. O tamanho é fixado
+    // antes (pela estimativa, no modo redimensionável), senão as faixas mudariam no meio
+    public int inserirParticionado(Registro[] registros) {
+        dimensionarParaLote(registros);
+        
+        long bytesPorPosicao = BYTES_POR_REFERENCIA + (robinHood ? 4 : 0)
+            + (long) Math.ceil(fatorCargaMaximo * BYTES_POR_REGISTRO);
+        int particoes = ParticionamentoRadix.calcularParticoes(tabela.length, bytesPorPosicao);
+        int tamanho = tabela.length;
+        Registro[] ordenados = ParticionamentoRadix.particionar(registros,
+            codigo -> funcaoHash.indice(codigo, tamanho), tamanho, particoes);
+        
+        return inserirEmOrdem(ordenados);
+    }
+    
+    private void dimensionarParaLote(Registro[] registros) {
+        if (redimensionavel) {
+            EstimadorCardinalidade estimador = new EstimadorCardinalidade();
+            for (Registro registro : registros) {
+                if (registro != null) estimador.adicionar(registro.getCodigoInt());
+            }
+            
+            long necessario = (long) Math.ceil((elementosInseridos + estimador.estimar() * FOLGA_ESTIMATIVA) / fatorCargaMaximo);
+            // Com uma migração em andamento o lote segue pelo crescimento normal
+            if (necessario > tabela.length && tabelaAntiga == null) {
+                iniciarMigracao(proximoPrimo((int) Math.min(necessario, Integer.MAX_VALUE / 2)));
+                redimensionamentos++;
+            }
+        }
+    }
+    
+    private int inserirEmOrdem(Registro[] registros) {
+        int inseridos = 0;
+        int limite = (int) (tabela.length * fatorCargaMaximo);
+        
+        for (Registro registro : registros) {
+            if (registro == null) {
+                continue;
+            }
+            
+            boolean inserido;
+            if (tabelaAntiga == null && elementosInseridos + removidos < limite) {
+                inserido = inserirDireto(registro) || crescerEInserir(registro);
+            } else {
+                inserido = inserir(registro);
+                limite = (int) (tabela.length * fatorCargaMaximo);
+            }
+            if (inserido) {
+                inseridos++;
+            }
+        }
+        return inseridos;
+    }
+    
+    private boolean inserirDireto(Registro registro) {
+        if (robinHood) {
+            return inserirRobinHood(registro, true);
         }
         
         int tentativa = 0;
+        int reaproveitavel = -1;
         int indice;
         
         do {
-            indice = calcularIndice(registro.getCodigoInt(), tentativa);
+            indice = calcularIndice(registro.getCodigoInt(), tentativa, tabela.length);
+            Registro atual = tabela[indice];
             
-            if (tabela[indice] == null) {
-                tabela[indice] = registro;
-                elementosInseridos++;
+            if (atual == null) {
+                // O código não está adiante; o primeiro marcador do caminho tem preferência
+                ocupar(reaproveitavel >= 0 ? reaproveitavel : indice, registro);
                 return true;
-            } else if (tabela[indice].getCodigo().equals(registro.getCodigo())) {
+            } else if (atual == REMOVIDO) {
+                if (reaproveitavel < 0) {
+                    reaproveitavel = indice;
+                }
+            } else if (atual.getCodigoInt() == registro.getCodigoInt()) {
                 return false;
-            } else {
-                colisoes++;
-                tentativa++;
             }
+            colisoes++;
+            tentativa++;
             
-            if (tentativa >= Math.min(MAX_TENTATIVAS, tabela.length)) {
+            if (tentativa >= limiteSondagem(tabela.length)) {
+                if (reaproveitavel >= 0) {
+                    ocupar(reaproveitavel, registro);
+                    return true;
+                }
                 return false;
             }
             
         } while (true);
     }
     
+    private void ocupar(int indice, Registro registro) {
+        if (tabela[indice] == REMOVIDO) {
+            removidos--;
+        }
+        tabela[indice] = registro;
+        elementosInseridos++;
+    }
+    
+    // Quem sondou mais toma a posição de quem sondou menos e o deslocado segue
+    // adiante. A carga máxima abaixo de 1 garante que sempre há posição livre
+    private boolean inserirRobinHood(Registro registro, boolean novo) {
+        int codigo = registro.getCodigoInt();
+        int indice = funcaoHash.indice(codigo, tabela.length);
+        int distancia = 0;
+        boolean verificarDuplicata = novo;
+        
+        while (true) {
+            Registro ocupante = tabela[indice];
+            
+            if (ocupante == null) {
+                tabela[indice] = registro;
+                distancias[indice] = distancia;
+                if (novo) {
+                    elementosInseridos++;
+                }
+                return true;
+            }
+            
+            if (verificarDuplicata && ocupante.getCodigoInt() == codigo) {
+                return false;
+            }
+            
+            if (distancias[indice] < distancia) {
+                // Daqui em diante o código não pode estar na tabela
+                verificarDuplicata = false;
+                int distanciaOcupante = distancias[indice];
+                tabela[indice] = registro;
+                distancias[indice] = distancia;
+                registro = ocupante;
+                distancia = distanciaOcupante;
+            }
+            
+            if (novo) {
+                colisoes++;
+            }
+            indice = (indice + 1) % tabela.length;
+            distancia++;
+        }
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        if (tabelaAntiga != null) {
+            migrarPasso();
+        }
+        
+        Registro encontrado = buscarEm(tabela, distancias, codigo);
+        if (encontrado == null && tabelaAntiga != null) {
+            encontrado = buscarEm(tabelaAntiga, distanciasAntigas, codigo);
+        }
+        return encontrado;
+    }
+    
     @Override
-    public Registro buscar(String codigo) {
-        if (codigo == null || codigo.length() != 9) {
-            return null;
+    public void buscarLote(int[] codigos, Registro[] saida) {
+        buscarIntercalado(codigos, saida, null);
+    }
+    
+    @Override
+    public void contemLote(int[] codigos, boolean[] saida) {
+        buscarIntercalado(codigos, null, saida);
+    }
+    
+    // Em cada grupo, primeiro todos os hashes, depois todas as primeiras posições e só então
+    // as comparações: as leituras de um grupo são independentes e suas faltas de cache se
+    // sobrepõem. Quem não se resolve na primeira posição segue sondando sozinho
+    private void buscarIntercalado(int[] codigos, Registro[] encontrados, boolean[] presentes) {
+        if (tabelaAntiga != null) {
+            // Durante a migração cada busca ainda consulta as duas tabelas
+            for (int i = 0; i < codigos.length; i++) {
+                Registro registro = buscar(codigos[i]);
+                if (encontrados != null) encontrados[i] = registro; else presentes[i] = registro != null;
+            }
+            return;
         }
         
-        int codigoInt = Integer.parseInt(codigo);
+        for (int base = 0; base < codigos.length; base += LOTE_INTERCALADO) {
+            int quantidade = Math.min(LOTE_INTERCALADO, codigos.length - base);
+            
+            for (int j = 0; j < quantidade; j++) {
+                hashesLote[j] = funcaoHash.indice(codigos[base + j], tabela.length);
+            }
+            for (int j = 0; j < quantidade; j++) {
+                candidatosLote[j] = tabela[hashesLote[j]];
+            }
+            
+            for (int j = 0; j < quantidade; j++) {
+                int codigo = codigos[base + j];
+                Registro atual = candidatosLote[j];
+                Registro resultado;
+                
+                if (atual == null) {
+                    resultado = null;
+                } else if (atual != REMOVIDO && atual.getCodigoInt() == codigo) {
+                    resultado = atual;
+                } else {
+                    resultado = continuarSondagem(codigo, hashesLote[j]);
+                }
+                
+                candidatosLote[j] = null;
+                if (encontrados != null) encontrados[base + j] = resultado; else presentes[base + j] = resultado != null;
+            }
+        }
+    }
+    
+    private Registro continuarSondagem(int codigo, int hash) {
+        int limite = robinHood ? tabela.length : limiteSondagem(tabela.length);
+        
+        for (int tentativa = 1; tentativa < limite; tentativa++) {
+            int indice = sondar(codigo, hash, tentativa, tabela.length);
+            Registro atual = tabela[indice];
+            
+            if (atual == null || (robinHood && distancias[indice] < tentativa)) {
+                return null;
+            } else if (atual != REMOVIDO && atual.getCodigoInt() == codigo) {
+                return atual;
+            }
+        }
+        return null;
+    }
+    
+    private Registro buscarEm(Registro[] alvo, int[] distanciasAlvo, int codigoInt) {
+        int indice = robinHood ? localizarRobinHood(alvo, distanciasAlvo, codigoInt) : localizar(alvo, codigoInt);
+        return indice < 0 ? null : alvo[indice];
+    }
+    
+    // A sondagem passa pelos marcadores e só para numa posição nunca ocupada
+    private int localizar(Registro[] alvo, int codigoInt) {
         int tentativa = 0;
         int indice;
         
         do {
-            indice = calcularIndice(codigoInt, tentativa);
+            indice = calcularIndice(codigoInt, tentativa, alvo.length);
+            Registro atual = alvo[indice];
             
-            if (tabela[indice] == null) {
-                return null;
-            } else if (tabela[indice].getCodigo().equals(codigo)) {
-                return tabela[indice];
+            if (atual == null) {
+                return -1;
+            } else if (atual != REMOVIDO && atual.getCodigoInt() == codigoInt) {
+                return indice;
             }
             
             tentativa++;
-            if (tentativa >= Math.min(MAX_TENTATIVAS, tabela.length)) {
-                return null;
+            if (tentativa >= limiteSondagem(alvo.length)) {
+                return -1;
             }
             
         } while (true);
     }
     
-    private int calcularIndice(int codigo, int tentativa) {
-        int hash = calcularHash(codigo);
+    // Para assim que a distância percorrida passa a da entrada na posição:
+    // se o código estivesse ali adiante, teria tomado essa posição
+    private int localizarRobinHood(Registro[] alvo, int[] distanciasAlvo, int codigoInt) {
+        int indice = funcaoHash.indice(codigoInt, alvo.length);
+        int distancia = 0;
         
-        switch (tipoRehash) {
-            case "linear":
-                return rehashLinear(hash, tentativa, tabela.length);
-            case "quadratico":
-                return rehashQuadratico(hash, tentativa, tabela.length);
-            case "duplo":
-                return rehashDuplo(codigo, hash, tentativa, tabela.length);
-            default:
-                return rehashLinear(hash, tentativa, tabela.length);
+        while (alvo[indice] != null && distanciasAlvo[indice] >= distancia) {
+            if (alvo[indice] != REMOVIDO && alvo[indice].getCodigoInt() == codigoInt) {
+                return indice;
+            }
+            indice = (indice + 1) % alvo.length;
+            distancia++;
         }
+        return -1;
     }
     
-    private int calcularHash(int key) {
-        switch (funcaoHash) {
-            case "multiplicacao":
-                return hashMultiplicacao(key, tabela.length);
-            case "dobramento":
-                return hashDobramento(key, tabela.length);
-            case "xorshift":
-                return hashXORShift(key, tabela.length);
-            default:
-                return hashMultiplicacao(key, tabela.length);
+    // Nas sondagens comuns a posição vira marcador, que a busca atravessa e a inserção
+    // reaproveita. No Robin Hood a remoção desloca para trás: as entradas seguintes do
+    // agrupamento voltam uma posição, sem deixar marcadores
+    @Override
+    public boolean remover(int codigo) {
+        boolean removido = robinHood ? removerRobinHood(codigo) : removerComMarcador(codigo);
+        
+        if (tabelaAntiga != null) {
+            // Durante a migração o código pode estar só na antiga (ainda não migrado) ou nas
+            // duas; lá ele vira marcador, que a migração pula, e a migração segue aos poucos.
+            // Na antiga o Robin Hood também usa marcador, que mantém a distância da posição
+            int indiceAntigo = robinHood ? localizarRobinHood(tabelaAntiga, distanciasAntigas, codigo)
+                                         : localizar(tabelaAntiga, codigo);
+            if (indiceAntigo >= 0) {
+                tabelaAntiga[indiceAntigo] = REMOVIDO;
+                if (!removido) {
+                    elementosInseridos--;
+                    removido = true;
+                }
+            }
+            migrarPasso();
+            return removido;
         }
+        
+        if (!removido) {
+            return false;
+        }
+        
+        if (!redimensionavel) {
+            if (removidos > tabela.length * LIMITE_REMOVIDOS) {
+                compactar();
+            }
+        } else if (tabela.length > tamanhoInicial && elementosInseridos < tabela.length * fatorCargaMaximo / 4) {
+            // Encolhe pela metade, mas nunca abaixo do tamanho pedido na construção. Como o
+            // crescimento e a limpeza de marcadores, vai para um vetor novo aos poucos
+            iniciarMigracao(proximoPrimo(Math.max(tamanhoInicial, tabela.length / 2)));
+            redimensionamentos++;
+        } else if (removidos > tabela.length * LIMITE_REMOVIDOS) {
+            iniciarMigracao(proximoPrimo(tabela.length));
+            compactacoes++;
+        }
+        return true;
     }
     
-    private int hashMultiplicacao(int key, int tableSize) {
-        double A = (Math.sqrt(5) - 1) / 2;
-        double valor = key * A;
-        valor = valor - Math.floor(valor);
-        return (int) (tableSize * valor);
+    private boolean removerComMarcador(int codigo) {
+        int indice = localizar(tabela, codigo);
+        if (indice < 0) {
+            return false;
+        }
+        
+        tabela[indice] = REMOVIDO;
+        removidos++;
+        elementosInseridos--;
+        return true;
     }
     
-    private int hashDobramento(int key, int tableSize) {
-        String keyStr = String.format("%09d", key);
-        int soma = 0;
+    private boolean removerRobinHood(int codigo) {
+        int indice = localizarRobinHood(tabela, distancias, codigo);
+        if (indice < 0) {
+            return false;
+        }
         
-        for (int i = 0; i < keyStr.length(); i += 3) {
-            int fim = Math.min(i + 3, keyStr.length());
-            String parte = keyStr.substring(i, fim);
-            soma += Integer.parseInt(parte);
+        int proximo = (indice + 1) % tabela.length;
+        while (tabela[proximo] != null && distancias[proximo] > 0) {
+            tabela[indice] = tabela[proximo];
+            distancias[indice] = distancias[proximo] - 1;
+            indice = proximo;
+            proximo = (proximo + 1) % tabela.length;
         }
+        tabela[indice] = null;
+        distancias[indice] = 0;
+        elementosInseridos--;
+        return true;
+    }
+    
+    private void iniciarRedimensionamento() {
+        // Só chega aqui com migração pendente se a tabela nova encheu antes do fim dela
+        while (tabelaAntiga != null) {
+            migrarPasso();
+        }
+        
+        iniciarMigracao(proximoPrimo(tabela.length * 2));
+        redimensionamentos++;
+    }
+    
+    // Crescer, limpar marcadores e encolher são a mesma operação no modo redimensionável:
+    // um vetor novo do tamanho dado, para onde migrarPasso leva as entradas aos poucos
+    private void iniciarMigracao(int tamanho) {
+        tabelaAntiga = tabela;
+        distanciasAntigas = distancias;
+        tabela = new Registro[tamanho];
+        if (robinHood) {
+            distancias = new int[tabela.length];
+        }
+        // Os marcadores ficam para trás: a migração só leva entradas vivas
+        removidos = 0;
+        indiceMigracao = 0;
+    }
+    
+    // Só no modo fixo. Mantém o tamanho, só arredondado para primo: com tamanho composto a
+    // sondagem dupla percorre ciclos curtos e a reinserção poderia não achar lugar para alguém
+    private void compactar() {
+        reconstruir(proximoPrimo(tabela.length));
+        compactacoes++;
+    }
+    
+    // Reconstrói a tabela de uma vez com o tamanho dado, sem migração incremental (só no
+    // modo fixo) e descartando os marcadores de remoção. Se algum registro não couber dentro do
+    // limite de sondagem, recomeça com o dobro do tamanho em vez de deixá-lo de fora
+    private void reconstruir(int tamanho) {
+        Registro[] antiga = tabela;
+        boolean completa;
         
-        return Math.abs(soma % tableSize);
+        do {
+            tabela = new Registro[tamanho];
+            if (robinHood) {
+                distancias = new int[tabela.length];
+            }
+            removidos = 0;
+            completa = true;
+            for (Registro registro : antiga) {
+                if (registro != null && registro != REMOVIDO && !reposicionar(registro)) {
+                    completa = false;
+                    break;
+                }
+            }
+            tamanho = proximoPrimo(tamanho * 2);
+        } while (!completa);
     }
     
-    private int hashXORShift(int key, int tableSize) {
-        key = key ^ (key >>> 16);
-        key = key ^ (key << 8);
-        key = key ^ (key >>> 4);
-        return Math.abs(key % tableSize);
+    // As entradas migradas continuam na tabela antiga até o fim da migração,
+    // para não quebrar as sequências de sondagem de quem ainda está lá
+    private void migrarPasso() {
+        if (tabelaAntiga == null) {
+            return;
+        }
+        
+        int fim = Math.min(indiceMigracao + VARREDURA_MIGRACAO, tabelaAntiga.length);
+        int migrados = 0;
+        for (; indiceMigracao < fim && migrados < PASSO_MIGRACAO; indiceMigracao++) {
+            Registro registro = tabelaAntiga[indiceMigracao];
+            if (registro != null && registro != REMOVIDO) {
+                // A nova tabela é prima e está abaixo da carga máxima, então sempre há lugar
+                if (!reposicionar(registro)) {
+                    throw new IllegalStateException("Não foi possível migrar o registro " + registro);
+                }
+                migrados++;
+            }
+        }
+        
+        if (indiceMigracao == tabelaAntiga.length) {
+            tabelaAntiga = null;
+            distanciasAntigas = null;
+        }
+    }
+    
+    // Usa o mesmo limite de sondagem da busca: um registro posto além dele ficaria inalcançável
+    private boolean reposicionar(Registro registro) {
+        if (robinHood) {
+            return inserirRobinHood(registro, false);
+        }
+        
+        int limite = limiteSondagem(tabela.length);
+        for (int tentativa = 0; tentativa < limite; tentativa++) {
+            int indice = calcularIndice(registro.getCodigoInt(), tentativa, tabela.length);
+            if (tabela[indice] == null) {
+                tabela[indice] = registro;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // No modo redimensionável a sondagem vai até o fim da tabela: funções como o dobramento
+    // concentram as origens numa faixa fixa de posições, e crescer não encurtaria os agrupamentos
+    private int limiteSondagem(int tamanho) {
+        return redimensionavel ? tamanho : Math.min(MAX_TENTATIVAS, tamanho);
+    }
+    
+    // Tamanhos primos garantem que as sondagens quadrática e dupla percorram a nova tabela
+    private static int proximoPrimo(int n) {
+        int candidato = n | 1;
+        while (!ehPrimo(candidato)) {
+            candidato += 2;
+        }
+        return candidato;
+    }
+    
+    private static boolean ehPrimo(int n) {
+        if (n < 2) return false;
+        if (n % 2 == 0) return n == 2;
+        for (int d = 3; (long) d * d <= n; d += 2) {
+            if (n % d == 0) return false;
+        }
+        return true;
+    }
+    
+    private int calcularIndice(int codigo, int tentativa, int tamanho) {
+        return sondar(codigo, funcaoHash.indice(codigo, tamanho), tentativa, tamanho);
+    }
+    
+    private int sondar(int codigo, int hash, int tentativa, int tamanho) {
+        switch (tipoRehash) {
+            case "linear":
+            case "robinhood":
+                return rehashLinear(hash, tentativa, tamanho);
+            case "quadratico":
+                return rehashQuadratico(hash, tentativa, tamanho);
+            case "duplo":
+                return rehashDuplo(codigo, hash, tentativa, tamanho);
+            default:
+                return rehashLinear(hash, tentativa, tamanho);
+        }
     }
     
     private int rehashLinear(int hash, int tentativa, int tableSize) {
@@ -135,12 +628,12 @@ public class TabelaHashRehashing implements TabelaHash {
     }
     
     private int rehashQuadratico(int hash, int tentativa, int tableSize) {
-        return (hash + tentativa * tentativa) % tableSize;
+        return (int) ((hash + (long) tentativa * tentativa) % tableSize);
     }
     
     private int rehashDuplo(int key, int hash1, int tentativa, int tableSize) {
         int hash2 = 1 + (key % (tableSize - 1));
-        return (hash1 + tentativa * hash2) % tableSize;
+        return (int) ((hash1 + (long) tentativa * hash2) % tableSize);
     }
     
     @Override
@@ -158,58 +651,113 @@ public class TabelaHashRehashing implements TabelaHash {
         return elementosInseridos;
     }
     
+    public int getRedimensionamentos() {
+        return redimensionamentos;
+    }
+    
+    public int getCompactacoes() {
+        return compactacoes;
+    }
+    
+    // Como nas métricas, a migração pendente é concluída antes: durante ela as entradas
+    // migradas continuam também na tabela antiga e apareceriam duas vezes
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        while (tabelaAntiga != null) {
+            migrarPasso();
+        }
+        
+        Registro[] slots = tabela;
+        return new SpliteratorBaldes((slot, acao) -> {
+            Registro registro = slots[slot];
+            if (registro != null && registro != REMOVIDO) {
+                acao.accept(registro);
+            }
+        }, slots.length, elementosInseridos);
+    }
+    
     @Override
     public Metricas calcularMetricas() {
-        Metricas metricas = new Metricas("Rehashing-" + tipoRehash, funcaoHash, tabela.length);
+        // As métricas descrevem a tabela final, então a migração pendente é concluída
+        while (tabelaAntiga != null) {
+            migrarPasso();
+        }
+        
+        String tipo = redimensionavel ? "Rehashing-" + tipoRehash + "-redimensionavel" : "Rehashing-" + tipoRehash;
+        Metricas metricas = new Metricas(tipo, funcaoHash.getNome(), tabela.length);
         metricas.setColisoes(colisoes);
         metricas.setElementosInseridos(elementosInseridos);
+        metricas.setMarcadoresRemocao(removidos);
         
         metricas.setMaiorLista(1);
         metricas.setSegundaMaiorLista(1);
         metricas.setTerceiraMaiorLista(1);
         
-        calcularGaps(metricas);
+        ResumoGaps.calcular(tabela.length, i -> tabela[i] != null && tabela[i] != REMOVIDO, metricas);
+        calcularDeslocamentos(metricas);
+        calcularSondagemMalSucedida(metricas);
         
         return metricas;
     }
     
-    private void calcularGaps(Metricas metricas) {
-        int[] gaps = new int[tabela.length];
-        int gapCount = 0;
-        int gapAtual = 0;
-        boolean encontrouPrimeiro = false;
+    // Deslocamento = número de sondagens entre a posição de origem e a posição final.
+    // Cada registro é independente, então a partir de LIMITE_PARALELO posições a varredura
+    // se divide por faixas de slots entre os núcleos
+    private void calcularDeslocamentos(Metricas metricas) {
+        java.util.stream.Stream<Registro> registros = stream();
+        if (tabela.length >= LIMITE_PARALELO) {
+            registros = registros.parallel();
+        }
+        java.util.IntSummaryStatistics deslocamentos = registros.mapToInt(this::deslocamento).summaryStatistics();
         
-        for (Registro registro : tabela) {
-            if (registro != null) {
-                if (encontrouPrimeiro) {
-                    gaps[gapCount++] = gapAtual;
-                }
-                gapAtual = 0;
-                encontrouPrimeiro = true;
-            } else if (encontrouPrimeiro) {
-                gapAtual++;
-            }
+        metricas.setDeslocamentoMaximo(deslocamentos.getCount() > 0 ? deslocamentos.getMax() : 0);
+        metricas.setDeslocamentoMedio(elementosInseridos > 0 ? (double) deslocamentos.getSum() / elementosInseridos : 0);
+    }
+    
+    // Sondagens até chegar à posição que o registro ocupa; no Robin Hood coincide com a distância guardada
+    private int deslocamento(Registro registro) {
+        int codigo = registro.getCodigoInt();
+        int hash = funcaoHash.indice(codigo, tabela.length);
+        int tentativa = 0;
+        while (tabela[sondar(codigo, hash, tentativa, tabela.length)] != registro) {
+            tentativa++;
         }
+        return tentativa;
+    }
+    
+    // Posições visitadas por buscas de códigos sorteados até a sondagem parar; é aqui
+    // que os marcadores pesam, porque a busca sem sucesso atravessa todos eles
+    private void calcularSondagemMalSucedida(Metricas metricas) {
+        java.util.Random random = new java.util.Random(AMOSTRA_MAL_SUCEDIDA);
+        long soma = 0;
+        int amostras = 0;
         
-        if (gapCount > 0) {
-            int menor = Integer.MAX_VALUE;
-            int maior = Integer.MIN_VALUE;
-            double soma = 0;
+        for (int i = 0; i < AMOSTRA_MAL_SUCEDIDA; i++) {
+            int codigo = random.nextInt(1000000000);
+            int hash = funcaoHash.indice(codigo, tabela.length);
+            int limite = robinHood ? tabela.length : limiteSondagem(tabela.length);
+            boolean encontrado = false;
+            int tentativa = 0;
             
-            for (int i = 0; i < gapCount; i++) {
-                int gap = gaps[i];
-                if (gap < menor) menor = gap;
-                if (gap > maior) maior = gap;
-                soma += gap;
+            while (tentativa < limite) {
+                int indice = sondar(codigo, hash, tentativa, tabela.length);
+                Registro atual = tabela[indice];
+                tentativa++;
+                if (atual == null || (robinHood && distancias[indice] < tentativa - 1)) {
+                    break;
+                }
+                if (atual != REMOVIDO && atual.getCodigoInt() == codigo) {
+                    encontrado = true;
+                    break;
+                }
             }
             
-            metricas.setMenorGap(menor);
-            metricas.setMaiorGap(maior);
-            metricas.setMediaGaps(soma / gapCount);
-        } else {
-            metricas.setMenorGap(0);
-            metricas.setMaiorGap(0);
-            metricas.setMediaGaps(0);
+            if (!encontrado) {
+                soma += tentativa;
+                amostras++;
+            }
         }
+        
+        metricas.setSondagemMediaMalSucedida(amostras > 0 ? (double) soma / amostras : 0);
     }
 }
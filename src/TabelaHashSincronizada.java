@@ -0,0 +1,146 @@
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Envolve qualquer tabela com uma trava única, como Collections.synchronizedMap: serve de
+// referência para as tabelas concorrentes. Lotes rodam inteiros com a trava; o spliterator
+// não é protegido, e não pode haver escrita enquanto ele percorre a tabela
+public class TabelaHashSincronizada implements TabelaHashConcorrente {
+    private final TabelaHash tabela;
+    private final ReentrantLock trava;
+    private final LongAdder disputas;
+    
+    public TabelaHashSincronizada(TabelaHash tabela) {
+        this.tabela = tabela;
+        this.trava = new ReentrantLock();
+        this.disputas = new LongAdder();
+    }
+    
+    // Só conta a disputa quando a trava já estava com outra thread
+    private void travar() {
+        if (!trava.tryLock()) {
+            disputas.increment();
+            trava.lock();
+        }
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        travar();
+        try {
+            return tabela.inserir(registro);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        travar();
+        try {
+            return tabela.buscar(codigo);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        travar();
+        try {
+            return tabela.contem(codigo);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public boolean remover(int codigo) {
+        travar();
+        try {
+            return tabela.remover(codigo);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public int inserirLote(Registro[] registros) {
+        travar();
+        try {
+            return tabela.inserirLote(registros);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public void buscarLote(int[] codigos, Registro[] saida) {
+        travar();
+        try {
+            tabela.buscarLote(codigos, saida);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public void contemLote(int[] codigos, boolean[] saida) {
+        travar();
+        try {
+            tabela.contemLote(codigos, saida);
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public int getColisoes() {
+        travar();
+        try {
+            return tabela.getColisoes();
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public int getTamanho() {
+        travar();
+        try {
+            return tabela.getTamanho();
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        travar();
+        try {
+            return tabela.getElementosInseridos();
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        travar();
+        try {
+            return tabela.calcularMetricas();
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    @Override
+    public long getDisputas() {
+        return disputas.sum();
+    }
+    
+    @Override
+    public Spliterator<Registro> spliterator() {
+        return tabela.spliterator();
+    }
+}
@@ -0,0 +1,310 @@
+public class TabelaHashSwiss implements TabelaHash {
+    private static final int SLOTS_POR_GRUPO = 8;
+    private static final double FATOR_CARGA_MAXIMO = 0.875;
+    
+    // Bytes de controle: VAZIO e REMOVIDO têm o bit alto ligado; ocupado guarda 7 bits do hash (h2)
+    private static final long VAZIO = 0x80L;
+    private static final int REMOVIDO = 0xFE;
+    private static final long BYTES_BAIXOS = 0x0101010101010101L;
+    private static final long BYTES_ALTOS = 0x8080808080808080L;
+    private static final int AMOSTRA_MAL_SUCEDIDA = 10000;
+    
+    // Um long por grupo com os 8 bytes de controle, comparados todos de uma vez (SWAR)
+    private long[] controles;
+    private int[] chaves;
+    private int numeroGrupos;
+    private int colisoes;
+    private int elementosInseridos;
+    private int removidos;
+    private FuncaoHash funcaoHash;
+    
+    public TabelaHashSwiss(int tamanho, String funcaoHash) {
+        this(tamanho, FuncaoHash.porNome(funcaoHash));
+    }
+    
+    public TabelaHashSwiss(int tamanho, FuncaoHash funcaoHash) {
+        this.numeroGrupos = Math.max(1, (tamanho + SLOTS_POR_GRUPO - 1) / SLOTS_POR_GRUPO);
+        this.controles = new long[numeroGrupos];
+        java.util.Arrays.fill(controles, VAZIO * BYTES_BAIXOS);
+        this.chaves = new int[numeroGrupos * SLOTS_POR_GRUPO];
+        java.util.Arrays.fill(chaves, -1);
+        this.colisoes = 0;
+        this.elementosInseridos = 0;
+        this.removidos = 0;
+        this.funcaoHash = funcaoHash;
+    }
+    
+    @Override
+    public boolean inserir(Registro registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro não pode ser nulo");
+        }
+        
+        // Marcadores também alongam a sondagem, então contam para a carga até a compactação
+        if (elementosInseridos + removidos >= chaves.length * FATOR_CARGA_MAXIMO) {
+            if (removidos == 0) {
+                return false;
+            }
+            compactar();
+            if (elementosInseridos >= chaves.length * FATOR_CARGA_MAXIMO) {
+                return false;
+            }
+        }
+        
+        return inserirCodigo(registro.getCodigoInt());
+    }
+    
+    private boolean inserirCodigo(int codigo) {
+        int h2 = calcularH2(codigo);
+        int grupo = funcaoHash.indice(codigo, numeroGrupos);
+        
+        int slotReaproveitavel = -1;
+        
+        for (int sondados = 0; sondados < numeroGrupos; sondados++) {
+            long controle = controles[grupo];
+            
+            long candidatos = compararByte(controle, h2);
+            while (candidatos != 0) {
+                int slot = grupo * SLOTS_POR_GRUPO + (Long.numberOfTrailingZeros(candidatos) >>> 3);
+                if (chaves[slot] == codigo) {
+                    return false;
+                }
+                candidatos &= candidatos - 1;
+            }
+            
+            colisoes += Long.bitCount(~controle & BYTES_ALTOS);
+            
+            if (slotReaproveitavel < 0) {
+                slotReaproveitavel = procurarRemovido(grupo, controle);
+            }
+            
+            // Um grupo com slot vazio prova que o código não está adiante; o primeiro
+            // marcador visto no caminho tem preferência sobre o vazio
+            long vazios = bytesVazios(controle);
+            if (vazios != 0) {
+                int slot = slotReaproveitavel >= 0
+                    ? slotReaproveitavel
+                    : grupo * SLOTS_POR_GRUPO + (Long.numberOfTrailingZeros(vazios) >>> 3);
+                ocupar(slot, codigo, h2);
+                return true;
+            }
+            
+            grupo = (grupo + 1) % numeroGrupos;
+        }
+        
+        if (slotReaproveitavel >= 0) {
+            ocupar(slotReaproveitavel, codigo, h2);
+            return true;
+        }
+        return false;
+    }
+    
+    private int procurarRemovido(int grupo, long controle) {
+        for (int posicao = 0; posicao < SLOTS_POR_GRUPO; posicao++) {
+            if (((controle >>> (posicao * 8)) & 0xFF) == REMOVIDO) {
+                return grupo * SLOTS_POR_GRUPO + posicao;
+            }
+        }
+        return -1;
+    }
+    
+    private void ocupar(int slot, int codigo, int h2) {
+        if (controleDoSlot(slot) == REMOVIDO) {
+            removidos--;
+        }
+        escreverControle(slot, h2);
+        chaves[slot] = codigo;
+        elementosInseridos++;
+    }
+    
+    private int controleDoSlot(int slot) {
+        return (int) ((controles[slot / SLOTS_POR_GRUPO] >>> ((slot % SLOTS_POR_GRUPO) * 8)) & 0xFF);
+    }
+    
+    private void escreverControle(int slot, long valor) {
+        int grupo = slot / SLOTS_POR_GRUPO;
+        int deslocamento = (slot % SLOTS_POR_GRUPO) * 8;
+        controles[grupo] = (controles[grupo] & ~(0xFFL << deslocamento)) | (valor << deslocamento);
+    }
+    
+    // Se o grupo ainda tem slot vazio, nenhuma sondagem passou por ele e o slot
+    // pode voltar a ser VAZIO; senão fica o marcador, para não cortar sondagens
+    @Override
+    public boolean remover(int codigo) {
+        int slot = localizar(codigo);
+        if (slot < 0) {
+            return false;
+        }
+        
+        long controle = controles[slot / SLOTS_POR_GRUPO];
+        if (bytesVazios(controle) != 0) {
+            escreverControle(slot, VAZIO);
+        } else {
+            escreverControle(slot, REMOVIDO);
+            removidos++;
+        }
+        // Código inválido: um falso positivo de compararByte não acha mais o removido
+        chaves[slot] = -1;
+        elementosInseridos--;
+        return true;
+    }
+    
+    // Reinsere os códigos vivos em controles limpos, descartando todos os marcadores
+    private void compactar() {
+        int[] vivos = new int[elementosInseridos];
+        int total = 0;
+        for (int slot = 0; slot < chaves.length; slot++) {
+            if (ocupado(slot)) {
+                vivos[total++] = chaves[slot];
+            }
+        }
+        
+        java.util.Arrays.fill(controles, VAZIO * BYTES_BAIXOS);
+        java.util.Arrays.fill(chaves, -1);
+        elementosInseridos = 0;
+        removidos = 0;
+        int colisoesAntes = colisoes;
+        for (int i = 0; i < total; i++) {
+            inserirCodigo(vivos[i]);
+        }
+        colisoes = colisoesAntes;
+    }
+    
+    @Override
+    public Registro buscar(int codigo) {
+        return contem(codigo) ? new Registro(codigo) : null;
+    }
+    
+    @Override
+    public boolean contem(int codigo) {
+        return localizar(codigo) >= 0;
+    }
+    
+    private int localizar(int codigo) {
+        int h2 = calcularH2(codigo);
+        int grupo = funcaoHash.indice(codigo, numeroGrupos);
+        
+        for (int sondados = 0; sondados < numeroGrupos; sondados++) {
+            long controle = controles[grupo];
+            
+            // Só os slots cujo byte de controle bate com h2 têm a chave comparada
+            long candidatos = compararByte(controle, h2);
+            while (candidatos != 0) {
+                int slot = grupo * SLOTS_POR_GRUPO + (Long.numberOfTrailingZeros(candidatos) >>> 3);
+                if (chaves[slot] == codigo) {
+                    return slot;
+                }
+                candidatos &= candidatos - 1;
+            }
+            
+            // Um grupo com slot vazio encerra a sondagem
+            if (bytesVazios(controle) != 0) {
+                return -1;
+            }
+            
+            grupo = (grupo + 1) % numeroGrupos;
+        }
+        
+        return -1;
+    }
+    
+    // Bit alto ligado em cada byte igual a h2 (pode haver falso positivo, nunca falso negativo)
+    private static long compararByte(long controle, int h2) {
+        long x = controle ^ (BYTES_BAIXOS * h2);
+        return (x - BYTES_BAIXOS) & ~x & BYTES_ALTOS;
+    }
+    
+    private static long bytesVazios(long controle) {
+        return controle & ~(controle << 1) & BYTES_ALTOS;
+    }
+    
+    // h2 vem de um misturador independente do hash que escolhe o grupo,
+    // senão códigos do mesmo grupo teriam quase sempre o mesmo h2
+    private static int calcularH2(int codigo) {
+        int h = codigo;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h & 0x7F;
+    }
+    
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+    
+    @Override
+    public int getTamanho() {
+        return chaves.length;
+    }
+    
+    @Override
+    public int getElementosInseridos() {
+        return elementosInseridos;
+    }
+    
+    // Um balde por grupo: o byte de controle diz quais slots estão ocupados
+    @Override
+    public java.util.Spliterator<Registro> spliterator() {
+        long[] controlesGrupos = controles;
+        int[] slots = chaves;
+        return new SpliteratorBaldes((grupo, acao) -> {
+            long ocupados = ~controlesGrupos[grupo] & BYTES_ALTOS;
+            while (ocupados != 0) {
+                int posicao = Long.numberOfTrailingZeros(ocupados) >>> 3;
+                acao.accept(new Registro(slots[grupo * SLOTS_POR_GRUPO + posicao]));
+                ocupados &= ocupados - 1;
+            }
+        }, controlesGrupos.length, elementosInseridos);
+    }
+    
+    @Override
+    public Metricas calcularMetricas() {
+        Metricas metricas = new Metricas("Swiss", funcaoHash.getNome(), chaves.length);
+        metricas.setColisoes(colisoes);
+        metricas.setElementosInseridos(elementosInseridos);
+        metricas.setMarcadoresRemocao(removidos);
+        
+        metricas.setMaiorLista(1);
+        metricas.setSegundaMaiorLista(1);
+        metricas.setTerceiraMaiorLista(1);
+        
+        ResumoGaps.calcular(chaves.length, this::ocupado, metricas);
+        calcularSondagemMalSucedida(metricas);
+        
+        return metricas;
+    }
+    
+    // Grupos visitados por buscas de códigos sorteados até achar um grupo com slot vazio;
+    // marcadores não encerram a sondagem, então grupos cheios deles a alongam
+    private void calcularSondagemMalSucedida(Metricas metricas) {
+        java.util.Random random = new java.util.Random(AMOSTRA_MAL_SUCEDIDA);
+        long soma = 0;
+        int amostras = 0;
+        
+        for (int i = 0; i < AMOSTRA_MAL_SUCEDIDA; i++) {
+            int codigo = random.nextInt(1000000000);
+            if (contem(codigo)) {
+                continue;
+            }
+            
+            int grupo = funcaoHash.indice(codigo, numeroGrupos);
+            int sondados = 1;
+            while (sondados < numeroGrupos && bytesVazios(controles[grupo]) == 0) {
+                grupo = (grupo + 1) % numeroGrupos;
+                sondados++;
+            }
+            soma += sondados;
+            amostras++;
+        }
+        
+        metricas.setSondagemMediaMalSucedida(amostras > 0 ? (double) soma / amostras : 0);
+    }
+    
+    private boolean ocupado(int slot) {
+        long controle = controles[slot / SLOTS_POR_GRUPO];
+        return ((controle >>> ((slot % SLOTS_POR_GRUPO) * 8)) & 0x80L) == 0;
+    }
+}